@@ -0,0 +1,70 @@
+package com.gurghet.result.benchmarks;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.StacklessException;
+import com.gurghet.result.Success;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchBenchmark {
+
+  private static final int SIZE = 1024;
+
+  @Param({"10"})
+  public int failurePercent;
+
+  private Result<Integer>[] results;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    StacklessException error = new StacklessException("expected");
+    results = new Result[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      results[i] = random.nextInt(100) < failurePercent ? Failure.of(error) : Success.of(i + 1_000);
+    }
+  }
+
+  @Benchmark
+  public int isFailure() {
+    int failures = 0;
+    for (Result<Integer> r : results) {
+      if (r.isFailure()) {
+        failures++;
+      }
+    }
+    return failures;
+  }
+
+  @Benchmark
+  public long mapAndFold() {
+    long sum = 0;
+    for (Result<Integer> r : results) {
+      sum += r.map(x -> x * 2).orElse(0);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long typeTest() {
+    long sum = 0;
+    for (Result<Integer> r : results) {
+      if (r instanceof Success) {
+        sum += ((Success<Integer>) r).value();
+      } else {
+        sum -= ((Failure<Integer>) r).exception().hashCode() & 1;
+      }
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,71 @@
+package com.gurghet.result.benchmarks;
+
+import com.gurghet.result.DoubleResult;
+import com.gurghet.result.IntResult;
+import com.gurghet.result.LongResult;
+import com.gurghet.result.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitiveResultBenchmark {
+
+  @Param({"1", "8"})
+  public int depth;
+
+  private int seed;
+
+  @Setup
+  public void setUp() {
+    seed = 100_000;
+  }
+
+  @Benchmark
+  public Result<Integer> boxedInt() {
+    Result<Integer> r = Result.of(() -> seed);
+    for (int i = 0; i < depth; i++) {
+      r = r.map(x -> x + 1);
+    }
+    return r;
+  }
+
+  @Benchmark
+  public IntResult primitiveInt() {
+    IntResult r = IntResult.of(() -> seed);
+    for (int i = 0; i < depth; i++) {
+      r = r.map(x -> x + 1);
+    }
+    return r;
+  }
+
+  @Benchmark
+  public Result<Double> boxedPricing() {
+    Result<Long> cents = Result.of(() -> (long) seed);
+    Result<Double> price = cents.map(c -> c / 100.0);
+    for (int i = 0; i < depth; i++) {
+      price = price.map(p -> p * 1.01);
+    }
+    return price;
+  }
+
+  @Benchmark
+  public DoubleResult primitivePricing() {
+    LongResult cents = LongResult.of(() -> seed);
+    DoubleResult price = cents.mapToDouble(c -> c / 100.0);
+    for (int i = 0; i < depth; i++) {
+      price = price.map(p -> p * 1.01);
+    }
+    return price;
+  }
+
+  @Benchmark
+  public long boxedToPrimitive() {
+    return Result.of(() -> seed).mapToLong(x -> x * 3L).map(x -> x + 1).orElse(-1L);
+  }
+}
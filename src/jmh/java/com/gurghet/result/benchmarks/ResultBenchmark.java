@@ -0,0 +1,196 @@
+package com.gurghet.result.benchmarks;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.Success;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBenchmark {
+
+  @Param({"SUCCESS", "FAILURE"})
+  public String outcome;
+
+  @Param({"1", "8"})
+  public int depth;
+
+  @Param({"int", "string"})
+  public String payload;
+
+  private Object value;
+  private Result<Object> input;
+  private Optional<Object> optional;
+  private RuntimeException exception;
+
+  private final Function<Object, Object> identity = x -> x;
+  private final Function<Object, Result<Object>> lift = Result::success;
+  private final Function<RuntimeException, RuntimeException> sameError = e -> e;
+
+  @Setup
+  public void setUp() {
+    value = payload.equals("int") ? (Object) 424242 : "payload-424242";
+    exception = new IllegalStateException("benchmark");
+    input = outcome.equals("SUCCESS") ? Success.of(value) : Failure.of(exception);
+    optional = outcome.equals("SUCCESS") ? Optional.of(value) : Optional.empty();
+  }
+
+  @Benchmark
+  public Result<Object> of() {
+    if (outcome.equals("SUCCESS")) {
+      return Result.of(() -> value);
+    } else {
+      return Result.of(() -> {
+        throw exception;
+      });
+    }
+  }
+
+  @Benchmark
+  public Result<Object> ofSneakyThrows() {
+    if (outcome.equals("SUCCESS")) {
+      return Result.ofSneakyThrows(() -> value);
+    } else {
+      return Result.ofSneakyThrows(() -> {
+        throw new Exception("checked");
+      });
+    }
+  }
+
+  @Benchmark
+  public Result<Object> map() {
+    Result<Object> r = input;
+    for (int i = 0; i < depth; i++) {
+      r = r.map(identity);
+    }
+    return r;
+  }
+
+  @Benchmark
+  public Result<Object> flatMap() {
+    Result<Object> r = input;
+    for (int i = 0; i < depth; i++) {
+      r = r.flatMap(lift);
+    }
+    return r;
+  }
+
+  @Benchmark
+  public Result<Object> mapError() {
+    Result<Object> r = input;
+    for (int i = 0; i < depth; i++) {
+      r = r.mapError(sameError);
+    }
+    return r;
+  }
+
+  @Benchmark
+  public Result<Object> tap() {
+    Result<Object> r = input;
+    for (int i = 0; i < depth; i++) {
+      r = r.tap(x -> {
+      });
+    }
+    return r;
+  }
+
+  @Benchmark
+  public Result<Object> tapError() {
+    Result<Object> r = input;
+    for (int i = 0; i < depth; i++) {
+      r = r.tapError(e -> {
+      });
+    }
+    return r;
+  }
+
+  @Benchmark
+  public Result<Object> as() {
+    Result<Object> r = input;
+    for (int i = 0; i < depth; i++) {
+      r = r.as(value);
+    }
+    return r;
+  }
+
+  @Benchmark
+  public Result<Object> catchSome() {
+    Result<Object> r = input;
+    for (int i = 0; i < depth; i++) {
+      r = r.catchSome(IllegalStateException.class, e -> Result.success(value));
+    }
+    return r;
+  }
+
+  @Benchmark
+  public Result<Object> catchAll() {
+    Result<Object> r = input;
+    for (int i = 0; i < depth; i++) {
+      r = r.catchAll(e -> Result.success(value));
+    }
+    return r;
+  }
+
+  @Benchmark
+  public Object orElse() {
+    return input.orElse(value);
+  }
+
+  @Benchmark
+  public Object orElseGet() {
+    return input.orElseGet(() -> value);
+  }
+
+  @Benchmark
+  public Object orElseThrow() {
+    try {
+      return input.orElseThrow();
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object unsafeGet() {
+    try {
+      return input.unsafeGet();
+    } catch (RuntimeException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public boolean isSuccess() {
+    return input.isSuccess();
+  }
+
+  @Benchmark
+  public Object toOptional() {
+    return input.toOptional();
+  }
+
+  @Benchmark
+  public Result<Object> fromOptional() {
+    return Result.fromOptional(optional);
+  }
+
+  @Benchmark
+  public Result<Object> mixedChain() {
+    Result<Object> r = input;
+    for (int i = 0; i < depth; i++) {
+      r = r.map(identity)
+          .flatMap(lift)
+          .mapError(sameError)
+          .catchSome(UnsupportedOperationException.class, e -> Result.success(value));
+    }
+    return r;
+  }
+}
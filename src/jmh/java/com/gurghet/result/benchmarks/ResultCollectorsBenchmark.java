@@ -0,0 +1,44 @@
+package com.gurghet.result.benchmarks;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultCollectors;
+import com.gurghet.result.Success;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultCollectorsBenchmark {
+
+  @Param({"100000"})
+  public int size;
+
+  private List<Result<Integer>> results;
+
+  @Setup
+  public void setUp() {
+    results = IntStream.range(0, size)
+        .mapToObj(i -> i % 10 == 0 ? Failure.<Integer>of(new IllegalStateException()) : Success.of(i))
+        .collect(Collectors.toList());
+  }
+
+  @Benchmark
+  public ResultCollectors.Partition<Integer> partition() {
+    return results.parallelStream().collect(ResultCollectors.partition());
+  }
+
+  @Benchmark
+  public Map<Boolean, List<Result<Integer>>> partitioningBy() {
+    return results.parallelStream().collect(Collectors.partitioningBy(Result::isSuccess));
+  }
+}
@@ -0,0 +1,50 @@
+package com.gurghet.result.benchmarks;
+
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultGuard;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class ResultGuardBenchmark {
+
+  private ResultGuard closed;
+  private ResultGuard open;
+  private final Integer value = 4242;
+
+  @Setup
+  public void setUp() {
+    closed = ResultGuard.builder().maxConcurrentCalls(1024).build();
+    open = ResultGuard.builder()
+        .slidingWindowSize(1)
+        .minimumCalls(1)
+        .openDuration(Duration.ofDays(1))
+        .build();
+    open.call(() -> {
+      throw new IllegalStateException("trip");
+    });
+  }
+
+  @Benchmark
+  public Result<Integer> unguarded() {
+    return Result.ofSneakyThrows(() -> value);
+  }
+
+  @Benchmark
+  public Result<Integer> closedBreakerAndBulkhead() {
+    return closed.call(() -> value);
+  }
+
+  @Benchmark
+  public Result<Integer> openBreakerFailsFast() {
+    return open.call(() -> value);
+  }
+}
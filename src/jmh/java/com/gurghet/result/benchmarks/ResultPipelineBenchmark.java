@@ -0,0 +1,55 @@
+package com.gurghet.result.benchmarks;
+
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultPipeline;
+import com.gurghet.result.Success;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultPipelineBenchmark {
+
+  private static final Function<String, Result<Integer>> PARSE = s -> Result.of(() -> Integer.parseInt(s));
+
+  @Param({"4242", "not-a-number"})
+  public String input;
+
+  private Function<String, Result<String>> compiled;
+
+  @Setup
+  public void setUp() {
+    compiled = ResultPipeline.<String>start()
+        .map(String::trim)
+        .flatMap(PARSE)
+        .map(i -> i * 2)
+        .mapError(e -> new IllegalArgumentException("Invalid input", e))
+        .tap(i -> {
+        })
+        .map(String::valueOf)
+        .compile();
+  }
+
+  @Benchmark
+  public Result<String> eager() {
+    return Success.of(input)
+        .map(String::trim)
+        .flatMap(PARSE)
+        .map(i -> i * 2)
+        .mapError(e -> new IllegalArgumentException("Invalid input", e))
+        .tap(i -> {
+        })
+        .map(String::valueOf);
+  }
+
+  @Benchmark
+  public Result<String> compiled() {
+    return compiled.apply(input);
+  }
+}
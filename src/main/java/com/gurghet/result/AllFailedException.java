@@ -0,0 +1,16 @@
+package com.gurghet.result;
+
+import java.util.List;
+
+public class AllFailedException extends StacklessException {
+  private final List<RuntimeException> failures;
+
+  AllFailedException(List<RuntimeException> failures) {
+    super("All " + failures.size() + " suppliers failed", failures.isEmpty() ? null : failures.get(0), false);
+    this.failures = List.copyOf(failures);
+  }
+
+  public List<RuntimeException> getFailures() {
+    return failures;
+  }
+}
@@ -0,0 +1,180 @@
+package com.gurghet.result;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class AsyncResult<T> {
+  private final CompletableFuture<Result<T>> future;
+
+  private AsyncResult(CompletableFuture<Result<T>> future) {
+    this.future = future;
+  }
+
+  public static <T> AsyncResult<T> of(CheckedSupplier<T> checkedThunk) {
+    return of(checkedThunk, ResultExecutors.defaultExecutor());
+  }
+
+  public static <T> AsyncResult<T> of(CheckedSupplier<T> checkedThunk, Executor executor) {
+    if (checkedThunk == null) {
+      throw new IllegalArgumentException("Result cannot hold a null thunk");
+    }
+    if (executor == null) {
+      throw new IllegalArgumentException("AsyncResult cannot run on a null executor");
+    }
+    try {
+      return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.ofSneakyThrows(checkedThunk), executor));
+    } catch (RejectedExecutionException e) {
+      return completed(Result.failure(e));
+    }
+  }
+
+  public static <T> AsyncResult<T> completed(Result<T> result) {
+    if (result == null) {
+      throw new IllegalArgumentException("AsyncResult cannot hold a null result");
+    }
+    return new AsyncResult<>(CompletableFuture.completedFuture(result));
+  }
+
+  public static <T> AsyncResult<T> fromFuture(CompletionStage<T> stage) {
+    if (stage == null) {
+      throw new IllegalArgumentException("AsyncResult cannot hold a null future");
+    }
+    CompletableFuture<Result<T>> future = stage
+        .handle((value, throwable) -> throwable == null ? AsyncResult.successOf(value) : AsyncResult.<T>failureOf(throwable))
+        .toCompletableFuture();
+    return new AsyncResult<>(future);
+  }
+
+  // A null completion (CompletionStage<Void>) is the shared void success, as in Result.of(Runnable).
+  @SuppressWarnings("unchecked")
+  private static <T> Result<T> successOf(T value) {
+    return value == null ? (Result<T>) (Result<?>) Success.voidInstance() : Result.success(value);
+  }
+
+  public static <T> AsyncResult<T> fromResultFuture(CompletionStage<Result<T>> stage) {
+    if (stage == null) {
+      throw new IllegalArgumentException("AsyncResult cannot hold a null future");
+    }
+    return new AsyncResult<>(settle(stage.toCompletableFuture()));
+  }
+
+  private <U> AsyncResult<U> then(Function<Result<T>, Result<U>> step) {
+    return new AsyncResult<>(future.handle((result, throwable) ->
+        step.apply(throwable == null ? result : failureOf(throwable))));
+  }
+
+  public <U> AsyncResult<U> map(Function<T, U> mapper) {
+    return then(r -> r.map(mapper));
+  }
+
+  public <U> AsyncResult<U> flatMap(Function<T, Result<U>> mapper) {
+    return then(r -> r.flatMap(mapper));
+  }
+
+  public <U> AsyncResult<U> flatMapAsync(Function<T, AsyncResult<U>> mapper) {
+    CompletableFuture<Result<U>> composed = future
+        .handle((result, throwable) -> throwable == null ? result : AsyncResult.<T>failureOf(throwable))
+        .thenCompose(result -> {
+          if (result.isFailure()) {
+            return CompletableFuture.completedFuture(((Failure<T>) result).<U>retype());
+          }
+          try {
+            AsyncResult<U> next = mapper.apply(result.unsafeGet());
+            if (next == null) {
+              return CompletableFuture.completedFuture(Result.failure(new NullPointerException("flatMapAsync mapper returned null")));
+            }
+            return next.future;
+          } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(Result.failure(e));
+          }
+        });
+    return new AsyncResult<>(settle(composed));
+  }
+
+  public AsyncResult<T> mapError(Function<RuntimeException, RuntimeException> mapper) {
+    return then(r -> r.mapError(mapper));
+  }
+
+  public AsyncResult<T> context(String context) {
+    return then(r -> r.context(context));
+  }
+
+  public AsyncResult<T> context(Supplier<String> context) {
+    return then(r -> r.context(context));
+  }
+
+  public AsyncResult<T> tap(Consumer<T> c) {
+    return then(r -> r.tap(c));
+  }
+
+  public AsyncResult<T> tapError(Consumer<RuntimeException> c) {
+    return then(r -> r.tapError(c));
+  }
+
+  public AsyncResult<T> catchAll(Function<RuntimeException, Result<T>> handler) {
+    return then(r -> r.catchAll(handler));
+  }
+
+  public AsyncResult<T> catchAll(Supplier<Result<T>> handler) {
+    return then(r -> r.catchAll(handler));
+  }
+
+  public <E extends RuntimeException> AsyncResult<T> catchSome(Class<E> exceptionType, Function<E, Result<T>> handler) {
+    return then(r -> r.catchSome(exceptionType, handler));
+  }
+
+  public AsyncResult<T> whenComplete(Consumer<Result<T>> c) {
+    future.whenComplete((result, throwable) -> c.accept(throwable == null ? result : failureOf(throwable)));
+    return this;
+  }
+
+  public boolean isDone() {
+    return future.isDone();
+  }
+
+  public Result<T> join() {
+    try {
+      return future.join();
+    } catch (CompletionException | CancellationException e) {
+      return failureOf(e);
+    }
+  }
+
+  public CompletableFuture<Result<T>> toCompletableFuture() {
+    return future.copy();
+  }
+
+  private static <T> CompletableFuture<Result<T>> settle(CompletableFuture<Result<T>> future) {
+    return future.handle((result, throwable) -> throwable == null ? result : failureOf(throwable));
+  }
+
+  static <T> Result<T> failureOf(Throwable throwable) {
+    Throwable cause = throwable;
+    while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof RuntimeException) {
+      return Result.failure((RuntimeException) cause);
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return Result.failure(new RuntimeException("Thrown checked exception, wrapping in RuntimeException", cause));
+  }
+
+  @Override
+  public String toString() {
+    Result<T> result = future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    return "AsyncResult{" +
+        (result != null ? "outcome=" + result : "pending") +
+        '}';
+  }
+}
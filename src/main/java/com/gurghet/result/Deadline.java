@@ -0,0 +1,153 @@
+package com.gurghet.result;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class Deadline<T> implements Runnable {
+  static final String CALL_SITE = "Result.ofWithin";
+
+  private static final int PENDING = 0;
+  private static final int RUNNING = 1;
+  private static final int INTERRUPTING = 2;
+  private static final int TIMED_OUT = 3;
+  private static final int DONE = 4;
+
+  private final Duration timeout;
+  private final CheckedSupplier<T> thunk;
+  private final CompletableFuture<Result<T>> promise;
+  private final AtomicInteger state = new AtomicInteger(PENDING);
+  private volatile Thread runner;
+  private boolean runnerWasInterrupted;
+  private volatile Future<?> timer;
+
+  private Deadline(Duration timeout, CheckedSupplier<T> thunk, CompletableFuture<Result<T>> promise) {
+    if (timeout == null) {
+      throw new IllegalArgumentException("Deadline timeout cannot be null");
+    }
+    if (thunk == null) {
+      throw new IllegalArgumentException("Result cannot hold a null thunk");
+    }
+    this.timeout = timeout;
+    this.thunk = thunk;
+    this.promise = promise;
+  }
+
+  // The thunk runs on a worker so that the caller is released at the deadline
+  // even when the thunk ignores interrupts. The timer bounds the join, which
+  // leaves the caller's own interrupt status as it was.
+  static <T> Result<T> runBlocking(Duration timeout, CheckedSupplier<T> thunk,
+                                   ScheduledExecutorService scheduler, Executor executor) {
+    try {
+      return start(timeout, thunk, scheduler, executor).join();
+    } catch (CompletionException e) {
+      throw (Error) e.getCause();
+    }
+  }
+
+  static <T> AsyncResult<T> runAsync(Duration timeout, CheckedSupplier<T> thunk,
+                                     ScheduledExecutorService scheduler, Executor executor) {
+    return AsyncResult.fromResultFuture(start(timeout, thunk, scheduler, executor));
+  }
+
+  private static <T> CompletableFuture<Result<T>> start(Duration timeout, CheckedSupplier<T> thunk,
+                                                        ScheduledExecutorService scheduler, Executor executor) {
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+    CompletableFuture<Result<T>> promise = new CompletableFuture<>();
+    Deadline<T> deadline = new Deadline<>(timeout, thunk, promise);
+    if (timeout.isNegative() || timeout.isZero()) {
+      promise.complete(deadline.timedOut());
+      return promise;
+    }
+    deadline.schedule(scheduler);
+    try {
+      executor.execute(() -> {
+        if (deadline.begin()) {
+          try {
+            promise.complete(deadline.evaluate());
+          } catch (Error e) {
+            deadline.cancelTimer();
+            promise.completeExceptionally(e);
+            throw e;
+          }
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      deadline.cancelTimer();
+      promise.complete(Result.failure(e));
+    }
+    return promise;
+  }
+
+  private boolean begin() {
+    Thread current = Thread.currentThread();
+    runnerWasInterrupted = current.isInterrupted();
+    runner = current;
+    return state.compareAndSet(PENDING, RUNNING);
+  }
+
+  private void schedule(ScheduledExecutorService scheduler) {
+    try {
+      timer = scheduler.schedule(this, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (ArithmeticException e) {
+      // Too far away to ever fire: run without a deadline.
+    }
+  }
+
+  private Result<T> evaluate() {
+    Result<T> result = Result.ofSneakyThrows(CALL_SITE, thunk);
+    if (state.compareAndSet(RUNNING, DONE)) {
+      cancelTimer();
+      return result;
+    }
+    while (state.get() == INTERRUPTING) {
+      Thread.onSpinWait();
+    }
+    // Clear the interrupt we sent, but keep one the thread already had.
+    Thread.interrupted();
+    if (runnerWasInterrupted) {
+      Thread.currentThread().interrupt();
+    }
+    return timedOut();
+  }
+
+  private void cancelTimer() {
+    Future<?> scheduled = timer;
+    if (scheduled != null) {
+      scheduled.cancel(false);
+    }
+  }
+
+  private Result<T> timedOut() {
+    return Result.failure(new DeadlineExceededException(timeout));
+  }
+
+  @Override
+  public void run() {
+    while (true) {
+      int current = state.get();
+      if (current == PENDING) {
+        if (state.compareAndSet(PENDING, TIMED_OUT)) {
+          break;
+        }
+      } else if (current == RUNNING) {
+        if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+          runner.interrupt();
+          state.set(TIMED_OUT);
+          break;
+        }
+      } else {
+        return;
+      }
+    }
+    promise.complete(timedOut());
+  }
+}
@@ -0,0 +1,16 @@
+package com.gurghet.result;
+
+import java.time.Duration;
+
+public class DeadlineExceededException extends StacklessException {
+  private final Duration timeout;
+
+  DeadlineExceededException(Duration timeout) {
+    super("Deadline of " + timeout.toMillis() + " ms exceeded", null, false);
+    this.timeout = timeout;
+  }
+
+  public Duration getTimeout() {
+    return timeout;
+  }
+}
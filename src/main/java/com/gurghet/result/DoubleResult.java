@@ -0,0 +1,279 @@
+package com.gurghet.result;
+
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+public final class DoubleResult {
+  private final double value;
+  private final RuntimeException exception;
+
+  private DoubleResult(double value, RuntimeException exception) {
+    this.value = value;
+    this.exception = exception;
+  }
+
+  public static DoubleResult of(DoubleSupplier thunk) {
+    if (thunk == null) {
+      throw new IllegalArgumentException("Result cannot hold a null thunk");
+    }
+    try {
+      return success(thunk.getAsDouble());
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public static DoubleResult success(double value) {
+    return new DoubleResult(value, null);
+  }
+
+  public static DoubleResult failure(RuntimeException exception) {
+    if (exception == null) {
+      throw new IllegalArgumentException("Failure cannot hold a null exception");
+    }
+    return new DoubleResult(0, exception);
+  }
+
+  public static DoubleResult fromResult(Result<Double> result) {
+    // Only the exception is kept: context frames on the Failure are dropped,
+    // and toResult starts a Failure with none.
+    if (result.isFailure()) {
+      return failure(((Failure<Double>) result).getException());
+    } else {
+      return success(result.unsafeGet());
+    }
+  }
+
+  public Result<Double> toResult() {
+    if (isFailure()) {
+      return Result.failure(exception);
+    } else {
+      return Result.success(value);
+    }
+  }
+
+  public boolean isFailure() {
+    return exception != null;
+  }
+
+  public boolean isSuccess() {
+    return exception == null;
+  }
+
+  public RuntimeException getException() {
+    if (isSuccess()) {
+      throw new IllegalStateException("Success holds no exception");
+    }
+    return exception;
+  }
+
+  public double unsafeGet() throws RuntimeException {
+    if (isFailure()) {
+      throw exception;
+    }
+    return value;
+  }
+
+  public double orElse(double other) {
+    return isFailure() ? other : value;
+  }
+
+  public double orElseGet(DoubleSupplier supplier) {
+    return isFailure() ? supplier.getAsDouble() : value;
+  }
+
+  public double orElseThrow() {
+    return unsafeGet();
+  }
+
+  public OptionalDouble toOptional() {
+    return isFailure() ? OptionalDouble.empty() : OptionalDouble.of(value);
+  }
+
+  public DoubleResult map(DoubleUnaryOperator mapper) {
+    if (isFailure()) {
+      return this;
+    }
+    try {
+      return success(mapper.applyAsDouble(value));
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public IntResult mapToInt(DoubleToIntFunction mapper) {
+    if (isFailure()) {
+      return IntResult.failure(exception);
+    }
+    try {
+      return IntResult.success(mapper.applyAsInt(value));
+    } catch (RuntimeException e) {
+      return IntResult.failure(e);
+    }
+  }
+
+  public LongResult mapToLong(DoubleToLongFunction mapper) {
+    if (isFailure()) {
+      return LongResult.failure(exception);
+    }
+    try {
+      return LongResult.success(mapper.applyAsLong(value));
+    } catch (RuntimeException e) {
+      return LongResult.failure(e);
+    }
+  }
+
+  public <U> Result<U> mapToObj(DoubleFunction<U> mapper) {
+    if (isFailure()) {
+      return Result.failure(exception);
+    }
+    try {
+      return Result.success(mapper.apply(value));
+    } catch (RuntimeException e) {
+      return Result.failure(e);
+    }
+  }
+
+  public DoubleResult flatMap(DoubleFunction<DoubleResult> mapper) {
+    if (isFailure()) {
+      return this;
+    }
+    try {
+      DoubleResult result = mapper.apply(value);
+      if (result == null) {
+        return failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public IntResult flatMapToInt(DoubleFunction<IntResult> mapper) {
+    if (isFailure()) {
+      return IntResult.failure(exception);
+    }
+    try {
+      IntResult result = mapper.apply(value);
+      if (result == null) {
+        return IntResult.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return IntResult.failure(e);
+    }
+  }
+
+  public LongResult flatMapToLong(DoubleFunction<LongResult> mapper) {
+    if (isFailure()) {
+      return LongResult.failure(exception);
+    }
+    try {
+      LongResult result = mapper.apply(value);
+      if (result == null) {
+        return LongResult.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return LongResult.failure(e);
+    }
+  }
+
+  public <U> Result<U> flatMapToObj(DoubleFunction<Result<U>> mapper) {
+    if (isFailure()) {
+      return Result.failure(exception);
+    }
+    try {
+      Result<U> result = mapper.apply(value);
+      if (result == null) {
+        return Result.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return Result.failure(e);
+    }
+  }
+
+  public DoubleResult mapError(Function<RuntimeException, RuntimeException> mapper) {
+    if (isSuccess()) {
+      return this;
+    }
+    try {
+      RuntimeException mapped = mapper.apply(exception);
+      return mapped == exception ? this : failure(mapped);
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public DoubleResult tap(DoubleConsumer c) {
+    if (isFailure()) {
+      return this;
+    }
+    try {
+      c.accept(value);
+      return this;
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public DoubleResult tapError(Consumer<RuntimeException> c) {
+    return mapError(e -> {
+      c.accept(e);
+      return e;
+    });
+  }
+
+  public DoubleResult catchAll(Function<RuntimeException, DoubleResult> handler) {
+    if (isFailure()) {
+      return handler.apply(exception);
+    } else {
+      return this;
+    }
+  }
+
+  public <E extends RuntimeException> DoubleResult catchSome(Class<E> exceptionType, Function<E, DoubleResult> handler) {
+    if (isFailure() && exceptionType.isInstance(exception)) {
+      return handler.apply(exceptionType.cast(exception));
+    } else {
+      return this;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    DoubleResult that = (DoubleResult) o;
+    if (isFailure() || that.isFailure()) {
+      return exception == that.exception;
+    }
+    return Double.compare(value, that.value) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return isFailure() ? exception.hashCode() : Double.hashCode(value);
+  }
+
+  @Override
+  public String toString() {
+    if (isFailure()) {
+      return "DoubleResult.Failure{" +
+          "exception=" + exception +
+          '}';
+    } else {
+      return "DoubleResult.Success{" +
+          "value=" + value +
+          '}';
+    }
+  }
+}
@@ -1,27 +1,154 @@
 package com.gurghet.result;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
 public class Failure<T> extends Result<T> {
+  static final int MAX_CONTEXT = 16;
+
   private final RuntimeException exception;
+  private final Frame context;
+  private final int droppedContext;
 
   public Failure(RuntimeException exception) {
+    this(exception, null, 0, true);
+  }
+
+  private Failure(RuntimeException exception, Frame context, int droppedContext, boolean created) {
     if (exception == null) {
       throw new IllegalArgumentException("Failure cannot hold a null exception");
     }
     this.exception = exception;
+    this.context = context;
+    this.droppedContext = droppedContext;
+    if (created) {
+      if (Instrumentation.ENABLED) {
+        Instrumentation.failureCreated(exception);
+      }
+      ResultEvents.failureCreated(exception);
+    }
+  }
+
+  static <T> Failure<T> withContext(RuntimeException exception, String context) {
+    return new Failure<T>(exception).withContext(context);
+  }
+
+  public Failure<T> withContext(String context) {
+    if (context == null) {
+      throw new IllegalArgumentException("Failure context cannot be null");
+    }
+    return push(context);
+  }
+
+  public Failure<T> withContext(Supplier<String> context) {
+    if (context == null) {
+      throw new IllegalArgumentException("Failure context cannot be null");
+    }
+    return push(context);
+  }
+
+  private Failure<T> push(Object context) {
+    if (this.context != null && this.context.size >= MAX_CONTEXT) {
+      // Outer frames say where the failure surfaced, so the innermost one goes.
+      return new Failure<>(exception, new Frame(context, this.context.take(MAX_CONTEXT - 1)), droppedContext + 1, false);
+    }
+    return new Failure<>(exception, new Frame(context, this.context), droppedContext, false);
+  }
+
+  <U> Failure<U> withException(RuntimeException replacement) {
+    return new Failure<>(replacement, context, droppedContext, true);
+  }
+
+  public List<String> getContext() {
+    if (context == null) {
+      return Collections.emptyList();
+    }
+    List<String> result = new ArrayList<>(context.size);
+    for (Frame frame = context; frame != null; frame = frame.next) {
+      result.add(frame.render());
+    }
+    Collections.reverse(result);
+    return Collections.unmodifiableList(result);
+  }
+
+  public int getDroppedContext() {
+    return droppedContext;
   }
 
   public RuntimeException getException() {
     return exception;
   }
 
+  public RuntimeException exception() {
+    return exception;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <U> Failure<U> retype() {
+    return (Failure<U>) this;
+  }
+
   public static <T> Failure<T> of(RuntimeException exception) {
     return new Failure<>(exception);
   }
 
   @Override
   public String toString() {
+    if (context == null) {
+      return "Failure{" +
+          "exception=" + exception +
+          '}';
+    }
     return "Failure{" +
         "exception=" + exception +
+        ", context=" + getContext() +
+        (droppedContext > 0 ? ", droppedContext=" + droppedContext : "") +
         '}';
   }
+
+  private static final class Frame {
+    // Either a String or a Supplier<String> that has not been rendered yet.
+    // Rendering races are benign: every thread computes an equivalent String.
+    private Object message;
+    private final Frame next;
+    private final int size;
+
+    private Frame(Object message, Frame next) {
+      this.message = message;
+      this.next = next;
+      this.size = next == null ? 1 : next.size + 1;
+    }
+
+    private Frame take(int count) {
+      Frame[] kept = new Frame[count];
+      Frame frame = this;
+      for (int i = 0; i < count; i++) {
+        kept[i] = frame;
+        frame = frame.next;
+      }
+      Frame copy = null;
+      for (int i = count - 1; i >= 0; i--) {
+        copy = new Frame(kept[i].message, copy);
+      }
+      return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String render() {
+      Object current = message;
+      if (current instanceof String) {
+        return (String) current;
+      }
+      String rendered;
+      try {
+        rendered = String.valueOf(((Supplier<String>) current).get());
+      } catch (RuntimeException e) {
+        rendered = "<context unavailable: " + e + ">";
+      }
+      message = rendered;
+      return rendered;
+    }
+  }
 }
@@ -0,0 +1,6 @@
+package com.gurghet.result;
+
+public enum FailureOrder {
+  ENCOUNTER,
+  EARLIEST
+}
@@ -0,0 +1,137 @@
+package com.gurghet.result;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class FanOut<T> {
+  static final String ZIP_CALL_SITE = "Result.parZip";
+  static final String RACE_CALL_SITE = "Result.race";
+
+  private final boolean race;
+  private final Object[] values;
+  private final RuntimeException[] failures;
+  private final FutureTask<?>[] tasks;
+  private final AtomicInteger pending;
+  // The decided Result, or an Error thrown by a supplier, rethrown to the caller.
+  private final AtomicReference<Object> outcome = new AtomicReference<>();
+  private final CountDownLatch decided = new CountDownLatch(1);
+
+  private FanOut(int size, boolean race) {
+    this.race = race;
+    this.values = race ? null : new Object[size];
+    this.failures = race ? new RuntimeException[size] : null;
+    this.tasks = new FutureTask<?>[size];
+    this.pending = new AtomicInteger(size);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Result<List<T>> all(List<CheckedSupplier<T>> suppliers, Executor executor) {
+    requireArguments(suppliers, executor);
+    if (suppliers.isEmpty()) {
+      return Result.success(List.of());
+    }
+    return (Result<List<T>>) new FanOut<T>(suppliers.size(), false).run(suppliers, executor, ZIP_CALL_SITE);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Result<T> any(List<CheckedSupplier<T>> suppliers, Executor executor) {
+    requireArguments(suppliers, executor);
+    if (suppliers.isEmpty()) {
+      throw new IllegalArgumentException("race needs at least one supplier");
+    }
+    return (Result<T>) new FanOut<T>(suppliers.size(), true).run(suppliers, executor, RACE_CALL_SITE);
+  }
+
+  private static void requireArguments(List<?> suppliers, Executor executor) {
+    if (suppliers == null) {
+      throw new IllegalArgumentException("Concurrent combinators cannot take null suppliers");
+    }
+    for (Object supplier : suppliers) {
+      if (supplier == null) {
+        throw new IllegalArgumentException("Concurrent combinators cannot take null suppliers");
+      }
+    }
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+  }
+
+  private Result<?> run(List<CheckedSupplier<T>> suppliers, Executor executor, String callSite) {
+    for (int i = 0; i < tasks.length; i++) {
+      int index = i;
+      CheckedSupplier<T> supplier = suppliers.get(i);
+      tasks[i] = new FutureTask<Void>(() -> {
+        if (outcome.get() == null) {
+          try {
+            complete(index, Result.ofSneakyThrows(callSite, supplier));
+          } catch (Error e) {
+            decide(index, e);
+            throw e;
+          }
+        }
+      }, null);
+    }
+    for (int i = 0; i < tasks.length && outcome.get() == null; i++) {
+      try {
+        executor.execute(tasks[i]);
+      } catch (RejectedExecutionException e) {
+        complete(i, Result.failure(e));
+      }
+    }
+    try {
+      decided.await();
+    } catch (InterruptedException e) {
+      cancelAllExcept(-1);
+      Thread.currentThread().interrupt();
+      return Result.failure(StackTracePolicy.global().newException("Interrupted while waiting for concurrent suppliers", e));
+    }
+    Object decision = outcome.get();
+    if (decision instanceof Error) {
+      throw (Error) decision;
+    }
+    return (Result<?>) decision;
+  }
+
+  private void complete(int index, Result<T> result) {
+    if (result.isSuccess()) {
+      if (race) {
+        decide(index, result);
+        return;
+      }
+      values[index] = result.unsafeGet();
+      if (pending.decrementAndGet() == 0) {
+        decide(index, Result.success(Arrays.asList(values)));
+      }
+    } else {
+      if (!race) {
+        decide(index, result);
+        return;
+      }
+      failures[index] = ((Failure<T>) result).getException();
+      if (pending.decrementAndGet() == 0) {
+        decide(index, Result.failure(new AllFailedException(Arrays.asList(failures))));
+      }
+    }
+  }
+
+  private void decide(int index, Object decision) {
+    if (outcome.compareAndSet(null, decision)) {
+      decided.countDown();
+      cancelAllExcept(index);
+    }
+  }
+
+  private void cancelAllExcept(int index) {
+    for (int i = 0; i < tasks.length; i++) {
+      if (i != index) {
+        tasks[i].cancel(true);
+      }
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.gurghet.result;
+
+public class GuardRejectedException extends StacklessException {
+  public static final GuardRejectedException CIRCUIT_OPEN = new GuardRejectedException("Circuit breaker is open");
+  public static final GuardRejectedException BULKHEAD_FULL = new GuardRejectedException("Bulkhead is full");
+
+  private GuardRejectedException(String message) {
+    super(message, null, false);
+  }
+}
@@ -0,0 +1,69 @@
+package com.gurghet.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+final class Instrumentation {
+  static final String METRICS_PROPERTY = "com.gurghet.result.metrics";
+  static final String PROVIDERS_PROPERTY = "com.gurghet.result.instrumentation";
+  static final String OF_CALL_SITE = "Result.of";
+  static final String OF_SNEAKY_THROWS_CALL_SITE = "Result.ofSneakyThrows";
+  static final String UNNAMED_CALL_SITE = "unnamed";
+
+  private static final ResultInstrumentation[] INSTRUMENTATIONS = load();
+  static final boolean ENABLED = INSTRUMENTATIONS.length > 0;
+
+  private Instrumentation() {
+  }
+
+  private static ResultInstrumentation[] load() {
+    List<ResultInstrumentation> found = new ArrayList<>();
+    if (Boolean.getBoolean(METRICS_PROPERTY)) {
+      found.add(ResultMetrics.global());
+    }
+    // Scanning the class path for providers costs several milliseconds when
+    // Result loads, so it only happens when asked for.
+    if (Boolean.getBoolean(PROVIDERS_PROPERTY)) {
+      try {
+        for (ResultInstrumentation instrumentation : ServiceLoader.load(ResultInstrumentation.class)) {
+          found.add(instrumentation);
+        }
+      } catch (ServiceConfigurationError e) {
+        // A broken provider must not stop Result from loading; run without it.
+      }
+    }
+    return found.toArray(new ResultInstrumentation[0]);
+  }
+
+  static void thunkCompleted(String callSite, long startNanos, Result<?> result) {
+    long duration = System.nanoTime() - startNanos;
+    String site = callSite == null ? UNNAMED_CALL_SITE : callSite;
+    RuntimeException failure = result.isFailure() ? ((Failure<?>) result).getException() : null;
+    for (ResultInstrumentation instrumentation : INSTRUMENTATIONS) {
+      try {
+        instrumentation.onThunkCompleted(site, duration, failure);
+      } catch (RuntimeException ignored) {
+      }
+    }
+  }
+
+  static void failureCreated(RuntimeException exception) {
+    for (ResultInstrumentation instrumentation : INSTRUMENTATIONS) {
+      try {
+        instrumentation.onFailureCreated(exception);
+      } catch (RuntimeException ignored) {
+      }
+    }
+  }
+
+  static void recovered(RuntimeException exception) {
+    for (ResultInstrumentation instrumentation : INSTRUMENTATIONS) {
+      try {
+        instrumentation.onRecovered(exception);
+      } catch (RuntimeException ignored) {
+      }
+    }
+  }
+}
@@ -0,0 +1,279 @@
+package com.gurghet.result;
+
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+public final class IntResult {
+  private final int value;
+  private final RuntimeException exception;
+
+  private IntResult(int value, RuntimeException exception) {
+    this.value = value;
+    this.exception = exception;
+  }
+
+  public static IntResult of(IntSupplier thunk) {
+    if (thunk == null) {
+      throw new IllegalArgumentException("Result cannot hold a null thunk");
+    }
+    try {
+      return success(thunk.getAsInt());
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public static IntResult success(int value) {
+    return new IntResult(value, null);
+  }
+
+  public static IntResult failure(RuntimeException exception) {
+    if (exception == null) {
+      throw new IllegalArgumentException("Failure cannot hold a null exception");
+    }
+    return new IntResult(0, exception);
+  }
+
+  public static IntResult fromResult(Result<Integer> result) {
+    // Only the exception is kept: context frames on the Failure are dropped,
+    // and toResult starts a Failure with none.
+    if (result.isFailure()) {
+      return failure(((Failure<Integer>) result).getException());
+    } else {
+      return success(result.unsafeGet());
+    }
+  }
+
+  public Result<Integer> toResult() {
+    if (isFailure()) {
+      return Result.failure(exception);
+    } else {
+      return Result.success(value);
+    }
+  }
+
+  public boolean isFailure() {
+    return exception != null;
+  }
+
+  public boolean isSuccess() {
+    return exception == null;
+  }
+
+  public RuntimeException getException() {
+    if (isSuccess()) {
+      throw new IllegalStateException("Success holds no exception");
+    }
+    return exception;
+  }
+
+  public int unsafeGet() throws RuntimeException {
+    if (isFailure()) {
+      throw exception;
+    }
+    return value;
+  }
+
+  public int orElse(int other) {
+    return isFailure() ? other : value;
+  }
+
+  public int orElseGet(IntSupplier supplier) {
+    return isFailure() ? supplier.getAsInt() : value;
+  }
+
+  public int orElseThrow() {
+    return unsafeGet();
+  }
+
+  public OptionalInt toOptional() {
+    return isFailure() ? OptionalInt.empty() : OptionalInt.of(value);
+  }
+
+  public IntResult map(IntUnaryOperator mapper) {
+    if (isFailure()) {
+      return this;
+    }
+    try {
+      return success(mapper.applyAsInt(value));
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public LongResult mapToLong(IntToLongFunction mapper) {
+    if (isFailure()) {
+      return LongResult.failure(exception);
+    }
+    try {
+      return LongResult.success(mapper.applyAsLong(value));
+    } catch (RuntimeException e) {
+      return LongResult.failure(e);
+    }
+  }
+
+  public DoubleResult mapToDouble(IntToDoubleFunction mapper) {
+    if (isFailure()) {
+      return DoubleResult.failure(exception);
+    }
+    try {
+      return DoubleResult.success(mapper.applyAsDouble(value));
+    } catch (RuntimeException e) {
+      return DoubleResult.failure(e);
+    }
+  }
+
+  public <U> Result<U> mapToObj(IntFunction<U> mapper) {
+    if (isFailure()) {
+      return Result.failure(exception);
+    }
+    try {
+      return Result.success(mapper.apply(value));
+    } catch (RuntimeException e) {
+      return Result.failure(e);
+    }
+  }
+
+  public IntResult flatMap(IntFunction<IntResult> mapper) {
+    if (isFailure()) {
+      return this;
+    }
+    try {
+      IntResult result = mapper.apply(value);
+      if (result == null) {
+        return failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public LongResult flatMapToLong(IntFunction<LongResult> mapper) {
+    if (isFailure()) {
+      return LongResult.failure(exception);
+    }
+    try {
+      LongResult result = mapper.apply(value);
+      if (result == null) {
+        return LongResult.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return LongResult.failure(e);
+    }
+  }
+
+  public DoubleResult flatMapToDouble(IntFunction<DoubleResult> mapper) {
+    if (isFailure()) {
+      return DoubleResult.failure(exception);
+    }
+    try {
+      DoubleResult result = mapper.apply(value);
+      if (result == null) {
+        return DoubleResult.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return DoubleResult.failure(e);
+    }
+  }
+
+  public <U> Result<U> flatMapToObj(IntFunction<Result<U>> mapper) {
+    if (isFailure()) {
+      return Result.failure(exception);
+    }
+    try {
+      Result<U> result = mapper.apply(value);
+      if (result == null) {
+        return Result.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return Result.failure(e);
+    }
+  }
+
+  public IntResult mapError(Function<RuntimeException, RuntimeException> mapper) {
+    if (isSuccess()) {
+      return this;
+    }
+    try {
+      RuntimeException mapped = mapper.apply(exception);
+      return mapped == exception ? this : failure(mapped);
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public IntResult tap(IntConsumer c) {
+    if (isFailure()) {
+      return this;
+    }
+    try {
+      c.accept(value);
+      return this;
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public IntResult tapError(Consumer<RuntimeException> c) {
+    return mapError(e -> {
+      c.accept(e);
+      return e;
+    });
+  }
+
+  public IntResult catchAll(Function<RuntimeException, IntResult> handler) {
+    if (isFailure()) {
+      return handler.apply(exception);
+    } else {
+      return this;
+    }
+  }
+
+  public <E extends RuntimeException> IntResult catchSome(Class<E> exceptionType, Function<E, IntResult> handler) {
+    if (isFailure() && exceptionType.isInstance(exception)) {
+      return handler.apply(exceptionType.cast(exception));
+    } else {
+      return this;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    IntResult that = (IntResult) o;
+    if (isFailure() || that.isFailure()) {
+      return exception == that.exception;
+    }
+    return value == that.value;
+  }
+
+  @Override
+  public int hashCode() {
+    return isFailure() ? exception.hashCode() : Integer.hashCode(value);
+  }
+
+  @Override
+  public String toString() {
+    if (isFailure()) {
+      return "IntResult.Failure{" +
+          "exception=" + exception +
+          '}';
+    } else {
+      return "IntResult.Success{" +
+          "value=" + value +
+          '}';
+    }
+  }
+}
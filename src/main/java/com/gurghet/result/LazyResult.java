@@ -0,0 +1,166 @@
+package com.gurghet.result;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class LazyResult<T> {
+  private CheckedSupplier<T> thunk;
+  private LazyResult<?> parent;
+  private Function<Result<?>, Result<T>> step;
+  private volatile Result<T> outcome;
+
+  private LazyResult(CheckedSupplier<T> thunk, LazyResult<?> parent, Function<Result<?>, Result<T>> step) {
+    this.thunk = thunk;
+    this.parent = parent;
+    this.step = step;
+  }
+
+  public static <T> LazyResult<T> defer(CheckedSupplier<T> thunk) {
+    if (thunk == null) {
+      throw new IllegalArgumentException("Result cannot hold a null thunk");
+    }
+    return new LazyResult<>(thunk, null, null);
+  }
+
+  public static <T> LazyResult<T> evaluated(Result<T> result) {
+    if (result == null) {
+      throw new IllegalArgumentException("LazyResult cannot hold a null result");
+    }
+    LazyResult<T> lazy = new LazyResult<>(null, null, null);
+    lazy.outcome = result;
+    return lazy;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <U> LazyResult<U> then(Function<Result<T>, Result<U>> next) {
+    Function<Result<?>, Result<U>> untyped = r -> next.apply((Result<T>) r);
+    return new LazyResult<>(null, this, untyped);
+  }
+
+  public <U> LazyResult<U> map(Function<T, U> mapper) {
+    return then(r -> r.map(mapper));
+  }
+
+  public <U> LazyResult<U> flatMap(Function<T, Result<U>> mapper) {
+    return then(r -> r.flatMap(mapper));
+  }
+
+  public LazyResult<T> mapError(Function<RuntimeException, RuntimeException> mapper) {
+    return then(r -> r.mapError(mapper));
+  }
+
+  public LazyResult<T> context(String context) {
+    return then(r -> r.context(context));
+  }
+
+  public LazyResult<T> context(Supplier<String> context) {
+    return then(r -> r.context(context));
+  }
+
+  public LazyResult<T> tap(Consumer<T> c) {
+    return then(r -> r.tap(c));
+  }
+
+  public LazyResult<T> tapError(Consumer<RuntimeException> c) {
+    return then(r -> r.tapError(c));
+  }
+
+  public LazyResult<T> catchAll(Function<RuntimeException, Result<T>> handler) {
+    return then(r -> r.catchAll(handler));
+  }
+
+  public LazyResult<T> catchAll(Supplier<Result<T>> handler) {
+    return then(r -> r.catchAll(handler));
+  }
+
+  public <E extends RuntimeException> LazyResult<T> catchSome(Class<E> exceptionType, Function<E, Result<T>> handler) {
+    return then(r -> r.catchSome(exceptionType, handler));
+  }
+
+  public <E extends RuntimeException> LazyResult<T> catchSome(Class<E> exceptionType, Supplier<Result<T>> handler) {
+    return then(r -> r.catchSome(exceptionType, handler));
+  }
+
+  public Result<T> get() {
+    Result<T> result = outcome;
+    if (result != null) {
+      return result;
+    }
+    return evaluate();
+  }
+
+  public boolean isEvaluated() {
+    return outcome != null;
+  }
+
+  public boolean isSuccess() {
+    return get().isSuccess();
+  }
+
+  public boolean isFailure() {
+    return get().isFailure();
+  }
+
+  public T orElse(T other) {
+    return get().orElse(other);
+  }
+
+  public T unsafeGet() throws RuntimeException {
+    return get().unsafeGet();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Result<T> evaluate() {
+    ArrayDeque<LazyResult<?>> pending = new ArrayDeque<>();
+    LazyResult<?> node = this;
+    LazyResult<?> parent;
+    while ((parent = node.pendingParent()) != null) {
+      pending.push(node);
+      node = parent;
+    }
+    Result<?> current = node.force();
+    while (!pending.isEmpty()) {
+      current = pending.pop().complete(current);
+    }
+    return (Result<T>) current;
+  }
+
+  private synchronized LazyResult<?> pendingParent() {
+    return outcome == null ? parent : null;
+  }
+
+  private synchronized Result<T> force() {
+    Result<T> result = outcome;
+    if (result == null) {
+      result = Result.ofSneakyThrows(thunk);
+      settle(result);
+    }
+    return result;
+  }
+
+  private synchronized Result<T> complete(Result<?> input) {
+    Result<T> result = outcome;
+    if (result == null) {
+      result = step.apply(input);
+      settle(result);
+    }
+    return result;
+  }
+
+  private void settle(Result<T> result) {
+    outcome = result;
+    thunk = null;
+    parent = null;
+    step = null;
+  }
+
+  @Override
+  public String toString() {
+    Result<T> result = outcome;
+    return "LazyResult{" +
+        (result != null ? "outcome=" + result : "unevaluated") +
+        '}';
+  }
+}
@@ -0,0 +1,279 @@
+package com.gurghet.result;
+
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongSupplier;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+public final class LongResult {
+  private final long value;
+  private final RuntimeException exception;
+
+  private LongResult(long value, RuntimeException exception) {
+    this.value = value;
+    this.exception = exception;
+  }
+
+  public static LongResult of(LongSupplier thunk) {
+    if (thunk == null) {
+      throw new IllegalArgumentException("Result cannot hold a null thunk");
+    }
+    try {
+      return success(thunk.getAsLong());
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public static LongResult success(long value) {
+    return new LongResult(value, null);
+  }
+
+  public static LongResult failure(RuntimeException exception) {
+    if (exception == null) {
+      throw new IllegalArgumentException("Failure cannot hold a null exception");
+    }
+    return new LongResult(0, exception);
+  }
+
+  public static LongResult fromResult(Result<Long> result) {
+    // Only the exception is kept: context frames on the Failure are dropped,
+    // and toResult starts a Failure with none.
+    if (result.isFailure()) {
+      return failure(((Failure<Long>) result).getException());
+    } else {
+      return success(result.unsafeGet());
+    }
+  }
+
+  public Result<Long> toResult() {
+    if (isFailure()) {
+      return Result.failure(exception);
+    } else {
+      return Result.success(value);
+    }
+  }
+
+  public boolean isFailure() {
+    return exception != null;
+  }
+
+  public boolean isSuccess() {
+    return exception == null;
+  }
+
+  public RuntimeException getException() {
+    if (isSuccess()) {
+      throw new IllegalStateException("Success holds no exception");
+    }
+    return exception;
+  }
+
+  public long unsafeGet() throws RuntimeException {
+    if (isFailure()) {
+      throw exception;
+    }
+    return value;
+  }
+
+  public long orElse(long other) {
+    return isFailure() ? other : value;
+  }
+
+  public long orElseGet(LongSupplier supplier) {
+    return isFailure() ? supplier.getAsLong() : value;
+  }
+
+  public long orElseThrow() {
+    return unsafeGet();
+  }
+
+  public OptionalLong toOptional() {
+    return isFailure() ? OptionalLong.empty() : OptionalLong.of(value);
+  }
+
+  public LongResult map(LongUnaryOperator mapper) {
+    if (isFailure()) {
+      return this;
+    }
+    try {
+      return success(mapper.applyAsLong(value));
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public IntResult mapToInt(LongToIntFunction mapper) {
+    if (isFailure()) {
+      return IntResult.failure(exception);
+    }
+    try {
+      return IntResult.success(mapper.applyAsInt(value));
+    } catch (RuntimeException e) {
+      return IntResult.failure(e);
+    }
+  }
+
+  public DoubleResult mapToDouble(LongToDoubleFunction mapper) {
+    if (isFailure()) {
+      return DoubleResult.failure(exception);
+    }
+    try {
+      return DoubleResult.success(mapper.applyAsDouble(value));
+    } catch (RuntimeException e) {
+      return DoubleResult.failure(e);
+    }
+  }
+
+  public <U> Result<U> mapToObj(LongFunction<U> mapper) {
+    if (isFailure()) {
+      return Result.failure(exception);
+    }
+    try {
+      return Result.success(mapper.apply(value));
+    } catch (RuntimeException e) {
+      return Result.failure(e);
+    }
+  }
+
+  public LongResult flatMap(LongFunction<LongResult> mapper) {
+    if (isFailure()) {
+      return this;
+    }
+    try {
+      LongResult result = mapper.apply(value);
+      if (result == null) {
+        return failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public IntResult flatMapToInt(LongFunction<IntResult> mapper) {
+    if (isFailure()) {
+      return IntResult.failure(exception);
+    }
+    try {
+      IntResult result = mapper.apply(value);
+      if (result == null) {
+        return IntResult.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return IntResult.failure(e);
+    }
+  }
+
+  public DoubleResult flatMapToDouble(LongFunction<DoubleResult> mapper) {
+    if (isFailure()) {
+      return DoubleResult.failure(exception);
+    }
+    try {
+      DoubleResult result = mapper.apply(value);
+      if (result == null) {
+        return DoubleResult.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return DoubleResult.failure(e);
+    }
+  }
+
+  public <U> Result<U> flatMapToObj(LongFunction<Result<U>> mapper) {
+    if (isFailure()) {
+      return Result.failure(exception);
+    }
+    try {
+      Result<U> result = mapper.apply(value);
+      if (result == null) {
+        return Result.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return Result.failure(e);
+    }
+  }
+
+  public LongResult mapError(Function<RuntimeException, RuntimeException> mapper) {
+    if (isSuccess()) {
+      return this;
+    }
+    try {
+      RuntimeException mapped = mapper.apply(exception);
+      return mapped == exception ? this : failure(mapped);
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public LongResult tap(LongConsumer c) {
+    if (isFailure()) {
+      return this;
+    }
+    try {
+      c.accept(value);
+      return this;
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public LongResult tapError(Consumer<RuntimeException> c) {
+    return mapError(e -> {
+      c.accept(e);
+      return e;
+    });
+  }
+
+  public LongResult catchAll(Function<RuntimeException, LongResult> handler) {
+    if (isFailure()) {
+      return handler.apply(exception);
+    } else {
+      return this;
+    }
+  }
+
+  public <E extends RuntimeException> LongResult catchSome(Class<E> exceptionType, Function<E, LongResult> handler) {
+    if (isFailure() && exceptionType.isInstance(exception)) {
+      return handler.apply(exceptionType.cast(exception));
+    } else {
+      return this;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    LongResult that = (LongResult) o;
+    if (isFailure() || that.isFailure()) {
+      return exception == that.exception;
+    }
+    return value == that.value;
+  }
+
+  @Override
+  public int hashCode() {
+    return isFailure() ? exception.hashCode() : Long.hashCode(value);
+  }
+
+  @Override
+  public String toString() {
+    if (isFailure()) {
+      return "LongResult.Failure{" +
+          "exception=" + exception +
+          '}';
+    } else {
+      return "LongResult.Success{" +
+          "value=" + value +
+          '}';
+    }
+  }
+}
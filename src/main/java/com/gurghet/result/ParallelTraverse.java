@@ -0,0 +1,101 @@
+package com.gurghet.result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+final class ParallelTraverse<A, B> {
+  private static final int NONE = Integer.MAX_VALUE;
+
+  private final List<A> inputs;
+  private final Function<A, Result<B>> mapper;
+  private final FailureOrder order;
+  private final Object[] slots;
+  private final AtomicInteger failedIndex = new AtomicInteger(NONE);
+  private final int threshold;
+
+  private ParallelTraverse(List<A> inputs, Function<A, Result<B>> mapper, FailureOrder order, int parallelism) {
+    this.inputs = inputs instanceof RandomAccess ? inputs : new ArrayList<>(inputs);
+    this.mapper = mapper;
+    this.order = order;
+    this.slots = new Object[this.inputs.size()];
+    this.threshold = Math.max(1, slots.length / (Math.max(1, parallelism) * 8));
+  }
+
+  @SuppressWarnings("unchecked")
+  static <A, B> Result<List<B>> run(List<A> inputs, Function<A, Result<B>> mapper, FailureOrder order, ForkJoinPool pool) {
+    ParallelTraverse<A, B> traverse = new ParallelTraverse<>(inputs, mapper, order, pool.getParallelism());
+    if (traverse.slots.length > 0) {
+      pool.invoke(traverse.new Range(0, traverse.slots.length));
+    }
+    int failed = traverse.failedIndex.get();
+    if (failed != NONE) {
+      return ((Failure<B>) traverse.slots[failed]).retype();
+    }
+    return Result.success((List<B>) Arrays.asList(traverse.slots));
+  }
+
+  private boolean isSkipped(int index) {
+    int failed = failedIndex.get();
+    return order == FailureOrder.EARLIEST ? failed != NONE : index > failed;
+  }
+
+  private void recordFailure(int index, Failure<B> failure) {
+    slots[index] = failure;
+    if (order == FailureOrder.EARLIEST) {
+      failedIndex.compareAndSet(NONE, index);
+      return;
+    }
+    int failed = failedIndex.get();
+    while (index < failed && !failedIndex.compareAndSet(failed, index)) {
+      failed = failedIndex.get();
+    }
+  }
+
+  private void computeAt(int index) {
+    Result<B> result;
+    try {
+      result = mapper.apply(inputs.get(index));
+      if (result == null) {
+        result = Result.failure(new NullPointerException("traverse mapper returned null"));
+      }
+    } catch (RuntimeException e) {
+      result = Result.failure(e);
+    }
+    if (result.isFailure()) {
+      recordFailure(index, (Failure<B>) result);
+    } else {
+      slots[index] = result.unsafeGet();
+    }
+  }
+
+  private final class Range extends RecursiveAction {
+    private final int from;
+    private final int to;
+
+    Range(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (isSkipped(from)) {
+        return;
+      }
+      if (to - from <= threshold) {
+        for (int i = from; i < to && !isSkipped(i); i++) {
+          computeAt(i);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new Range(from, middle), new Range(middle, to));
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.gurghet.result;
+
+public class RemoteFailureException extends RuntimeException {
+  private final String remoteClassName;
+
+  RemoteFailureException(String remoteClassName, String message, StackTraceElement[] stackTrace) {
+    super(message, null, false, true);
+    this.remoteClassName = remoteClassName;
+    setStackTrace(stackTrace);
+  }
+
+  public String getRemoteClassName() {
+    return remoteClassName;
+  }
+
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    String message = getLocalizedMessage();
+    return message != null ? remoteClassName + ": " + message : remoteClassName;
+  }
+}
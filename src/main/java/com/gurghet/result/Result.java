@@ -1,17 +1,43 @@
 package com.gurghet.result;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public abstract class Result<T> {
+  static final String TAP_FAILED_CONTEXT = "Error in tap";
 
   public static <T> Result<T> of(Supplier<T> thunk) {
+    return of(Instrumentation.OF_CALL_SITE, thunk);
+  }
+
+  public static <T> Result<T> of(String callSite, Supplier<T> thunk) {
     if (thunk == null) {
       throw new IllegalArgumentException("Result cannot hold a null thunk");
     }
+    ResultEvents.ThunkEvent event = ResultEvents.beginThunk();
+    if (event == null && !Instrumentation.ENABLED) {
+      return evaluate(thunk);
+    }
+    long start = System.nanoTime();
+    Result<T> result = evaluate(thunk);
+    thunkCompleted(callSite, start, event, result);
+    return result;
+  }
+
+  private static <T> Result<T> evaluate(Supplier<T> thunk) {
     try {
       T value = thunk.get();
       return success(value);
@@ -24,6 +50,17 @@ public abstract class Result<T> {
     if (runnableThunk == null) {
       throw new IllegalArgumentException("Result cannot hold a null thunk");
     }
+    ResultEvents.ThunkEvent event = ResultEvents.beginThunk();
+    if (event == null && !Instrumentation.ENABLED) {
+      return evaluate(runnableThunk);
+    }
+    long start = System.nanoTime();
+    Result<Void> result = evaluate(runnableThunk);
+    thunkCompleted(Instrumentation.OF_CALL_SITE, start, event, result);
+    return result;
+  }
+
+  private static Result<Void> evaluate(Runnable runnableThunk) {
     try {
       runnableThunk.run();
       return voidSuccess();
@@ -32,40 +69,235 @@ public abstract class Result<T> {
     }
   }
 
+  private static void thunkCompleted(String callSite, long start, ResultEvents.ThunkEvent event, Result<?> result) {
+    if (Instrumentation.ENABLED) {
+      Instrumentation.thunkCompleted(callSite, start, result);
+    }
+    if (event != null) {
+      ResultEvents.endThunk(event, callSite, result);
+    }
+  }
+
+  private static void recovered(String operation, RuntimeException e) {
+    if (Instrumentation.ENABLED) {
+      Instrumentation.recovered(e);
+    }
+    ResultEvents.recovered(operation, e);
+  }
+
   private static Result<Void> voidSuccess() {
-    return new Success<>(null, true);
+    return Success.voidInstance();
   }
 
   public static <T> Result<T> ofSneakyThrows(CheckedSupplier<T> checkedThunk) {
+    return ofSneakyThrows(Instrumentation.OF_SNEAKY_THROWS_CALL_SITE, checkedThunk, StackTracePolicy.global());
+  }
+
+  public static <T> Result<T> ofSneakyThrows(CheckedSupplier<T> checkedThunk, StackTracePolicy policy) {
+    return ofSneakyThrows(Instrumentation.OF_SNEAKY_THROWS_CALL_SITE, checkedThunk, policy);
+  }
+
+  public static <T> Result<T> ofSneakyThrows(String callSite, CheckedSupplier<T> checkedThunk) {
+    return ofSneakyThrows(callSite, checkedThunk, StackTracePolicy.global());
+  }
+
+  private static <T> Result<T> ofSneakyThrows(String callSite, CheckedSupplier<T> checkedThunk, StackTracePolicy policy) {
     if (checkedThunk == null) {
       throw new IllegalArgumentException("Result cannot hold a null thunk");
     }
+    if (policy == null) {
+      throw new IllegalArgumentException("Stack trace policy cannot be null");
+    }
+    ResultEvents.ThunkEvent event = ResultEvents.beginThunk();
+    if (event == null && !Instrumentation.ENABLED) {
+      return evaluate(checkedThunk, policy);
+    }
+    long start = System.nanoTime();
+    Result<T> result = evaluate(checkedThunk, policy);
+    thunkCompleted(callSite, start, event, result);
+    return result;
+  }
+
+  private static <T> Result<T> evaluate(CheckedSupplier<T> checkedThunk, StackTracePolicy policy) {
     try {
       T value = checkedThunk.get();
       return success(value);
     } catch (RuntimeException e) {
       return failure(e);
     } catch (Exception e) {
-      return failure(new RuntimeException("Thrown checked exception, wrapping in RuntimeException", e));
+      return failure(policy.newException("Thrown checked exception, wrapping in RuntimeException", e));
+    }
+  }
+
+  public static <T> AsyncResult<T> ofAsync(CheckedSupplier<T> checkedThunk) {
+    return AsyncResult.of(checkedThunk);
+  }
+
+  public static <T> AsyncResult<T> ofAsync(CheckedSupplier<T> checkedThunk, Executor executor) {
+    return AsyncResult.of(checkedThunk, executor);
+  }
+
+  public static <T> Result<T> ofWithin(Duration timeout, CheckedSupplier<T> checkedThunk) {
+    return Deadline.runBlocking(timeout, checkedThunk, ResultExecutors.scheduler(), ResultExecutors.defaultExecutor());
+  }
+
+  public static <T> AsyncResult<T> ofWithinAsync(Duration timeout, CheckedSupplier<T> checkedThunk) {
+    return Deadline.runAsync(timeout, checkedThunk, ResultExecutors.scheduler(), ResultExecutors.defaultExecutor());
+  }
+
+  public static <T> AsyncResult<T> ofWithinAsync(Duration timeout, CheckedSupplier<T> checkedThunk, Executor executor) {
+    return Deadline.runAsync(timeout, checkedThunk, ResultExecutors.scheduler(), executor);
+  }
+
+  public static <T> Result<T> retry(CheckedSupplier<T> checkedThunk, RetryPolicy policy) {
+    return new Retrier<>(checkedThunk, policy).runBlocking();
+  }
+
+  public static <T> AsyncResult<T> retryAsync(CheckedSupplier<T> checkedThunk, RetryPolicy policy) {
+    return new Retrier<>(checkedThunk, policy).runAsync(ResultExecutors.scheduler(), ResultExecutors.defaultExecutor());
+  }
+
+  public static <T> AsyncResult<T> retryAsync(CheckedSupplier<T> checkedThunk, RetryPolicy policy, ScheduledExecutorService scheduler) {
+    return retryAsync(checkedThunk, policy, scheduler, ResultExecutors.defaultExecutor());
+  }
+
+  public static <T> AsyncResult<T> retryAsync(CheckedSupplier<T> checkedThunk, RetryPolicy policy,
+                                              ScheduledExecutorService scheduler, Executor executor) {
+    if (scheduler == null) {
+      throw new IllegalArgumentException("Retry scheduler cannot be null");
+    }
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+    return new Retrier<>(checkedThunk, policy).runAsync(scheduler, executor);
+  }
+
+  public static <K, V> ResultCache<K, V> memoize(Function<K, Result<V>> loader, long maximumSize) {
+    return ResultCache.builder().maximumSize(maximumSize).build(loader);
+  }
+
+  public static <T> LazyResult<T> defer(CheckedSupplier<T> checkedThunk) {
+    return LazyResult.defer(checkedThunk);
+  }
+
+  public static <T> Result<List<T>> sequence(List<Result<T>> results) {
+    return traverse(results, Function.identity());
+  }
+
+  public static <A, B> Result<List<B>> traverse(List<A> inputs, Function<A, Result<B>> mapper) {
+    if (inputs == null || mapper == null) {
+      throw new IllegalArgumentException("traverse cannot take null inputs or a null mapper");
+    }
+    List<B> values = new ArrayList<>(inputs.size());
+    for (A input : inputs) {
+      Result<B> result;
+      try {
+        result = mapper.apply(input);
+      } catch (RuntimeException e) {
+        return failure(e);
+      }
+      if (result == null) {
+        return failure(new NullPointerException("traverse mapper returned null"));
+      }
+      if (result.isFailure()) {
+        return ((Failure<B>) result).retype();
+      }
+      values.add(result.unsafeGet());
+    }
+    return success(values);
+  }
+
+  public static <S, T> Result<T> loop(S initial, Function<S, Result<Step<S, T>>> step) {
+    if (step == null) {
+      throw new IllegalArgumentException("loop cannot take a null step");
+    }
+    S state = initial;
+    while (true) {
+      Result<Step<S, T>> next;
+      try {
+        next = step.apply(state);
+      } catch (RuntimeException e) {
+        return failure(e);
+      }
+      if (next == null) {
+        return failure(new NullPointerException("loop step returned null"));
+      }
+      if (next.isFailure()) {
+        return ((Failure<Step<S, T>>) next).retype();
+      }
+      Step<S, T> current = next.unsafeGet();
+      if (current.isDone()) {
+        return success(current.getValue());
+      }
+      state = current.getState();
+    }
+  }
+
+  public static <A, B, R> Result<R> parZip(CheckedSupplier<A> first, CheckedSupplier<B> second,
+                                          BiFunction<A, B, R> combiner) {
+    return parZip(first, second, combiner, ResultExecutors.defaultExecutor());
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <A, B, R> Result<R> parZip(CheckedSupplier<A> first, CheckedSupplier<B> second,
+                                          BiFunction<A, B, R> combiner, Executor executor) {
+    if (first == null || second == null || combiner == null) {
+      throw new IllegalArgumentException("parZip cannot take null suppliers or a null combiner");
+    }
+    List<CheckedSupplier<Object>> suppliers = List.of((CheckedSupplier<Object>) first, (CheckedSupplier<Object>) second);
+    return FanOut.all(suppliers, executor)
+        .flatMap(values -> Result.of(() -> combiner.apply((A) values.get(0), (B) values.get(1))));
+  }
+
+  public static <T> Result<List<T>> parZip(List<CheckedSupplier<T>> suppliers) {
+    return FanOut.all(suppliers, ResultExecutors.defaultExecutor());
+  }
+
+  public static <T> Result<List<T>> parZip(List<CheckedSupplier<T>> suppliers, Executor executor) {
+    return FanOut.all(suppliers, executor);
+  }
+
+  public static <T> Result<T> race(List<CheckedSupplier<T>> suppliers) {
+    return FanOut.any(suppliers, ResultExecutors.defaultExecutor());
+  }
+
+  public static <T> Result<T> race(List<CheckedSupplier<T>> suppliers, Executor executor) {
+    return FanOut.any(suppliers, executor);
+  }
+
+  public static <T> Result<List<T>> parallelSequence(List<Result<T>> results) {
+    return parallelTraverse(results, Function.identity());
+  }
+
+  public static <A, B> Result<List<B>> parallelTraverse(List<A> inputs, Function<A, Result<B>> mapper) {
+    return parallelTraverse(inputs, mapper, FailureOrder.ENCOUNTER, ForkJoinPool.commonPool());
+  }
+
+  public static <A, B> Result<List<B>> parallelTraverse(List<A> inputs, Function<A, Result<B>> mapper, FailureOrder order) {
+    return parallelTraverse(inputs, mapper, order, ForkJoinPool.commonPool());
+  }
+
+  public static <A, B> Result<List<B>> parallelTraverse(List<A> inputs, Function<A, Result<B>> mapper, FailureOrder order, ForkJoinPool pool) {
+    if (inputs == null || mapper == null) {
+      throw new IllegalArgumentException("traverse cannot take null inputs or a null mapper");
     }
+    if (order == null || pool == null) {
+      throw new IllegalArgumentException("traverse cannot take a null failure order or pool");
+    }
+    return ParallelTraverse.run(inputs, mapper, order, pool);
   }
 
   public <U> Result<U> flatMap(Function<T, Result<U>> mapper) {
+    if (this.isFailure()) {
+      return ((Failure<T>) this).retype();
+    }
+    Success<T> success = (Success<T>) this;
     try {
-      if (this.isFailure()) {
-        Failure<T> failure = (Failure<T>) this;
-        throw failure.getException();
-      } else {
-        Success<T> success = (Success<T>) this;
-        T x = success.getValue();
-        Result<U> result = mapper.apply(x);
-        if (result.isFailure()) {
-          Failure<U> flatMapFailure = (Failure<U>) result;
-          throw flatMapFailure.getException();
-        } else {
-          return result;
-        }
+      Result<U> result = mapper.apply(success.getValue());
+      if (result == null) {
+        return failure(new NullPointerException("flatMap mapper returned null"));
       }
+      return result;
     } catch (RuntimeException e) {
       return failure(e);
     }
@@ -73,16 +305,100 @@ public abstract class Result<T> {
 
   public <U> Result<U> map(Function<T, U> mapper) {
     if (this.isFailure()) {
-      Failure<T> failure = (Failure<T>) this;
-      return failure(failure.getException());
-    } else {
-      Success<T> success = (Success<T>) this;
-      try {
-        U value = mapper.apply(success.getValue());
-        return success(value);
-      } catch (RuntimeException e) {
-        return failure(e);
+      return ((Failure<T>) this).retype();
+    }
+    Success<T> success = (Success<T>) this;
+    try {
+      U value = mapper.apply(success.getValue());
+      return success(value);
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  public IntResult mapToInt(ToIntFunction<T> mapper) {
+    // The primitive results hold only the exception, so context frames stop
+    // here; the same holds for mapToLong and mapToDouble.
+    if (this.isFailure()) {
+      return IntResult.failure(((Failure<T>) this).getException());
+    }
+    Success<T> success = (Success<T>) this;
+    try {
+      return IntResult.success(mapper.applyAsInt(success.getValue()));
+    } catch (RuntimeException e) {
+      return IntResult.failure(e);
+    }
+  }
+
+  public LongResult mapToLong(ToLongFunction<T> mapper) {
+    if (this.isFailure()) {
+      return LongResult.failure(((Failure<T>) this).getException());
+    }
+    Success<T> success = (Success<T>) this;
+    try {
+      return LongResult.success(mapper.applyAsLong(success.getValue()));
+    } catch (RuntimeException e) {
+      return LongResult.failure(e);
+    }
+  }
+
+  public DoubleResult mapToDouble(ToDoubleFunction<T> mapper) {
+    if (this.isFailure()) {
+      return DoubleResult.failure(((Failure<T>) this).getException());
+    }
+    Success<T> success = (Success<T>) this;
+    try {
+      return DoubleResult.success(mapper.applyAsDouble(success.getValue()));
+    } catch (RuntimeException e) {
+      return DoubleResult.failure(e);
+    }
+  }
+
+  public IntResult flatMapToInt(Function<T, IntResult> mapper) {
+    if (this.isFailure()) {
+      return IntResult.failure(((Failure<T>) this).getException());
+    }
+    Success<T> success = (Success<T>) this;
+    try {
+      IntResult result = mapper.apply(success.getValue());
+      if (result == null) {
+        return IntResult.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return IntResult.failure(e);
+    }
+  }
+
+  public LongResult flatMapToLong(Function<T, LongResult> mapper) {
+    if (this.isFailure()) {
+      return LongResult.failure(((Failure<T>) this).getException());
+    }
+    Success<T> success = (Success<T>) this;
+    try {
+      LongResult result = mapper.apply(success.getValue());
+      if (result == null) {
+        return LongResult.failure(new NullPointerException("flatMap mapper returned null"));
+      }
+      return result;
+    } catch (RuntimeException e) {
+      return LongResult.failure(e);
+    }
+  }
+
+  public DoubleResult flatMapToDouble(Function<T, DoubleResult> mapper) {
+    if (this.isFailure()) {
+      return DoubleResult.failure(((Failure<T>) this).getException());
+    }
+    Success<T> success = (Success<T>) this;
+    try {
+      DoubleResult result = mapper.apply(success.getValue());
+      if (result == null) {
+        return DoubleResult.failure(new NullPointerException("flatMap mapper returned null"));
       }
+      return result;
+    } catch (RuntimeException e) {
+      return DoubleResult.failure(e);
     }
   }
 
@@ -97,29 +413,46 @@ public abstract class Result<T> {
   }
 
   public Result<T> mapError(Function<RuntimeException, RuntimeException> mapper) {
+    if (this.isSuccess()) {
+      return this;
+    }
+    RuntimeException e = ((Failure<T>) this).getException();
     try {
-      if (this.isFailure()) {
-        Failure<T> failure = (Failure<T>) this;
-        RuntimeException e = failure.getException();
-        RuntimeException mapped = mapper.apply(e);
-        return failure(mapped);
-      } else {
+      RuntimeException mapped = mapper.apply(e);
+      if (mapped == e) {
         return this;
       }
-    } catch (RuntimeException e) {
-      return failure(e);
+      ResultEvents.recovered("mapError", e);
+      return ((Failure<T>) this).withException(mapped);
+    } catch (RuntimeException thrown) {
+      return failure(thrown);
+    }
+  }
+
+  public Result<T> context(String context) {
+    if (this.isSuccess()) {
+      return this;
     }
+    return ((Failure<T>) this).withContext(context);
+  }
+
+  public Result<T> context(Supplier<String> context) {
+    if (this.isSuccess()) {
+      return this;
+    }
+    return ((Failure<T>) this).withContext(context);
   }
 
   public Result<T> tap(Consumer<T> c) {
-    return flatMap(x -> {
-      c.accept(x);
-      return Result.of(() -> x);
-    })
-            .mapError(e -> {
-              e.addSuppressed(new RuntimeException("Error in tap"));
-              return e;
-            });
+    if (this.isFailure()) {
+      return this;
+    }
+    try {
+      c.accept(unsafeGet());
+      return this;
+    } catch (RuntimeException e) {
+      return Failure.withContext(e, TAP_FAILED_CONTEXT);
+    }
   }
 
   public boolean isFailure() {
@@ -143,7 +476,6 @@ public abstract class Result<T> {
       try {
         return supplier.get();
       } catch (RuntimeException e) {
-        ((Failure<T>) this).getException().addSuppressed(e);
         throw ((Failure<T>) this).getException();
       }
     } else {
@@ -186,14 +518,20 @@ public abstract class Result<T> {
   }
 
   public Result<T> tapError(Consumer<RuntimeException> c) {
-    return mapError(e -> {
-      c.accept(e);
-      return e;
-    });
+    if (this.isSuccess()) {
+      return this;
+    }
+    try {
+      c.accept(((Failure<T>) this).getException());
+      return this;
+    } catch (RuntimeException thrown) {
+      return failure(thrown);
+    }
   }
 
   public static <T> Success<T> success(T value) {
-    return new Success<>(value, false);
+    Success<T> canonical = Success.canonical(value);
+    return canonical != null ? canonical : new Success<>(value, false);
   }
 
   public static <T> Failure<T> failure(RuntimeException exception) {
@@ -201,10 +539,17 @@ public abstract class Result<T> {
   }
 
   public static <T> Result<T> fromOptional(Optional<T> optional) {
+    return fromOptional(optional, StackTracePolicy.global());
+  }
+
+  public static <T> Result<T> fromOptional(Optional<T> optional, StackTracePolicy policy) {
+    if (policy == null) {
+      throw new IllegalArgumentException("Stack trace policy cannot be null");
+    }
     if (optional.isPresent()) {
       return success(optional.get());
     } else {
-      return failure(new RuntimeException("Optional is not present"));
+      return failure(policy.orSentinel(StacklessException.OPTIONAL_NOT_PRESENT));
     }
   }
 
@@ -212,6 +557,7 @@ public abstract class Result<T> {
     if (this.isFailure()) {
       Failure<T> failure = (Failure<T>) this;
       RuntimeException e = failure.getException();
+      recovered("catchAll", e);
       return handler.apply(e);
     } else {
       return this;
@@ -220,6 +566,7 @@ public abstract class Result<T> {
 
   public Result<T> catchAll(Supplier<Result<T>> handler) {
     if (this.isFailure()) {
+      recovered("catchAll", ((Failure<T>) this).getException());
       return handler.get();
     } else {
       return this;
@@ -228,6 +575,7 @@ public abstract class Result<T> {
 
   public Result<T> catchAll(Result<T> handler) {
     if (this.isFailure()) {
+      recovered("catchAll", ((Failure<T>) this).getException());
       return handler;
     } else {
       return this;
@@ -239,6 +587,7 @@ public abstract class Result<T> {
       Failure<T> failure = (Failure<T>) this;
       RuntimeException e = failure.getException();
       if (exceptionType.isInstance(e)) {
+        recovered("catchSome", e);
         return handler.apply((E) e);
       } else {
         return this;
@@ -253,6 +602,7 @@ public abstract class Result<T> {
       Failure<T> failure = (Failure<T>) this;
       RuntimeException e = failure.getException();
       if (exceptionType.isInstance(e)) {
+        recovered("catchSome", e);
         return handler.get();
       } else {
         return this;
@@ -263,6 +613,13 @@ public abstract class Result<T> {
   }
 
   public <U> Result<U> as(U value) {
-    return map(x -> value);
+    if (this.isFailure()) {
+      return ((Failure<T>) this).retype();
+    }
+    try {
+      return success(value);
+    } catch (RuntimeException e) {
+      return failure(e);
+    }
   }
 }
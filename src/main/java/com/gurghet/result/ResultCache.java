@@ -0,0 +1,322 @@
+package com.gurghet.result;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public final class ResultCache<K, V> implements Function<K, Result<V>> {
+  private static final long FOREVER = Long.MAX_VALUE;
+
+  private final Function<K, Result<V>> loader;
+  private final long maximumSize;
+  private final long successTtlNanos;
+  private final long failureTtlNanos;
+  private final LongSupplier ticker;
+  private final ConcurrentHashMap<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<Entry<K, V>> clock = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger deadInClock = new AtomicInteger();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder loadSuccesses = new LongAdder();
+  private final LongAdder loadFailures = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private ResultCache(Builder builder, Function<K, Result<V>> loader) {
+    this.loader = loader;
+    this.maximumSize = builder.maximumSize;
+    this.successTtlNanos = toNanos(builder.successTtl);
+    this.failureTtlNanos = toNanos(builder.failureTtl);
+    this.ticker = builder.ticker;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  @Override
+  public Result<V> apply(K key) {
+    return get(key);
+  }
+
+  public Result<V> get(K key) {
+    if (key == null) {
+      throw new IllegalArgumentException("ResultCache cannot hold a null key");
+    }
+    while (true) {
+      Entry<K, V> entry = entries.get(key);
+      if (entry != null) {
+        Result<V> cached = entry.future.getNow(null);
+        if (cached == null) {
+          if (entry.loadingThread == Thread.currentThread()) {
+            throw new IllegalStateException("ResultCache loader cannot load its own key recursively");
+          }
+          misses.increment();
+          return entry.future.join();
+        }
+        if (entry.expiresAt == FOREVER || ticker.getAsLong() - entry.expiresAt < 0) {
+          hits.increment();
+          if (!entry.referenced) {
+            entry.referenced = true;
+          }
+          return cached;
+        }
+        remove(entry);
+      }
+      Entry<K, V> created = new Entry<>(key);
+      if (entries.putIfAbsent(key, created) == null) {
+        misses.increment();
+        return load(created);
+      }
+    }
+  }
+
+  public void invalidate(K key) {
+    Entry<K, V> entry = entries.get(key);
+    if (entry != null) {
+      remove(entry);
+    }
+  }
+
+  public void invalidateAll() {
+    for (Entry<K, V> entry : entries.values()) {
+      remove(entry);
+    }
+  }
+
+  public long size() {
+    return entries.mappingCount();
+  }
+
+  public Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), loadSuccesses.sum(), loadFailures.sum(), evictions.sum());
+  }
+
+  private Result<V> load(Entry<K, V> entry) {
+    Result<V> result = null;
+    try {
+      result = loader.apply(entry.key);
+      if (result == null) {
+        result = Result.failure(new NullPointerException("Cache loader returned null"));
+      }
+    } catch (RuntimeException e) {
+      result = Result.failure(e);
+    } finally {
+      entry.loadingThread = null;
+      if (result == null) {
+        entries.remove(entry.key, entry);
+        entry.future.completeExceptionally(new IllegalStateException("Cache loader failed"));
+      }
+    }
+    long ttl;
+    if (result.isSuccess()) {
+      loadSuccesses.increment();
+      ttl = successTtlNanos;
+    } else {
+      loadFailures.increment();
+      ttl = failureTtlNanos;
+    }
+    if (ttl == 0) {
+      entries.remove(entry.key, entry);
+      entry.future.complete(result);
+      return result;
+    }
+    entry.expiresAt = ttl == FOREVER ? FOREVER : ticker.getAsLong() + ttl;
+    // Queue under the map's bin lock so an invalidate() racing the load either
+    // sees the entry as queued or keeps it out of the clock altogether.
+    entries.computeIfPresent(entry.key, (key, current) -> {
+      if (current == entry) {
+        entry.queued = true;
+        clock.offer(entry);
+      }
+      return current;
+    });
+    entry.future.complete(result);
+    evictIfNeeded();
+    return result;
+  }
+
+  private void remove(Entry<K, V> entry) {
+    if (entries.remove(entry.key, entry)) {
+      entry.removed = true;
+      if (entry.queued) {
+        deadInClock.incrementAndGet();
+      }
+    }
+  }
+
+  private void evictIfNeeded() {
+    if (entries.mappingCount() <= maximumSize && deadInClock.get() <= maximumSize) {
+      return;
+    }
+    if (!evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      while (entries.mappingCount() > maximumSize) {
+        Entry<K, V> candidate = clock.poll();
+        if (candidate == null) {
+          break;
+        }
+        if (candidate.removed) {
+          deadInClock.decrementAndGet();
+        } else if (candidate.referenced) {
+          candidate.referenced = false;
+          clock.offer(candidate);
+        } else if (entries.remove(candidate.key, candidate)) {
+          candidate.removed = true;
+          evictions.increment();
+        }
+      }
+      if (deadInClock.get() > maximumSize) {
+        clock.removeIf(candidate -> {
+          if (candidate.removed) {
+            deadInClock.decrementAndGet();
+            return true;
+          }
+          return false;
+        });
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private static long toNanos(Duration ttl) {
+    if (ttl == null || ttl.compareTo(Duration.ofNanos(FOREVER / 2)) >= 0) {
+      return FOREVER;
+    }
+    return ttl.toNanos();
+  }
+
+  @Override
+  public String toString() {
+    return "ResultCache{" +
+        "size=" + entries.mappingCount() +
+        ", maximumSize=" + maximumSize +
+        ", " + stats() +
+        '}';
+  }
+
+  private static final class Entry<K, V> {
+    final K key;
+    final CompletableFuture<Result<V>> future = new CompletableFuture<>();
+    volatile Thread loadingThread = Thread.currentThread();
+    volatile long expiresAt = FOREVER;
+    volatile boolean referenced;
+    volatile boolean queued;
+    volatile boolean removed;
+
+    Entry(K key) {
+      this.key = key;
+    }
+  }
+
+  public static final class Stats {
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long evictionCount;
+
+    private Stats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long evictionCount) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.loadSuccessCount = loadSuccessCount;
+      this.loadFailureCount = loadFailureCount;
+      this.evictionCount = evictionCount;
+    }
+
+    public long getHitCount() {
+      return hitCount;
+    }
+
+    public long getMissCount() {
+      return missCount;
+    }
+
+    public long getLoadSuccessCount() {
+      return loadSuccessCount;
+    }
+
+    public long getLoadFailureCount() {
+      return loadFailureCount;
+    }
+
+    public long getEvictionCount() {
+      return evictionCount;
+    }
+
+    public double hitRate() {
+      long requests = hitCount + missCount;
+      return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+      return "Stats{" +
+          "hits=" + hitCount +
+          ", misses=" + missCount +
+          ", loadSuccesses=" + loadSuccessCount +
+          ", loadFailures=" + loadFailureCount +
+          ", evictions=" + evictionCount +
+          '}';
+    }
+  }
+
+  public static final class Builder {
+    private long maximumSize = 10_000;
+    private Duration successTtl;
+    private Duration failureTtl = Duration.ZERO;
+    private LongSupplier ticker = System::nanoTime;
+
+    private Builder() {
+    }
+
+    public Builder maximumSize(long maximumSize) {
+      if (maximumSize < 1) {
+        throw new IllegalArgumentException("Cache must hold at least one entry");
+      }
+      this.maximumSize = maximumSize;
+      return this;
+    }
+
+    public Builder successTtl(Duration successTtl) {
+      this.successTtl = requireNonNegative(successTtl);
+      return this;
+    }
+
+    public Builder failureTtl(Duration failureTtl) {
+      this.failureTtl = requireNonNegative(failureTtl);
+      return this;
+    }
+
+    public Builder ticker(LongSupplier nanoTicker) {
+      if (nanoTicker == null) {
+        throw new IllegalArgumentException("Ticker cannot be null");
+      }
+      this.ticker = nanoTicker;
+      return this;
+    }
+
+    public <K, V> ResultCache<K, V> build(Function<K, Result<V>> loader) {
+      if (loader == null) {
+        throw new IllegalArgumentException("Cache loader cannot be null");
+      }
+      return new ResultCache<>(this, loader);
+    }
+
+    private static Duration requireNonNegative(Duration ttl) {
+      if (ttl == null || ttl.isNegative()) {
+        throw new IllegalArgumentException("TTL cannot be null or negative");
+      }
+      return ttl;
+    }
+  }
+}
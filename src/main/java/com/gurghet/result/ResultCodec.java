@@ -0,0 +1,259 @@
+package com.gurghet.result;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ResultCodec<T> {
+  private static final byte SUCCESS = 0;
+  private static final byte VOID_SUCCESS = 1;
+  private static final byte FAILURE = 2;
+  private static final int INITIAL_BUFFER_SIZE = 256;
+  private static final StackTraceElement[] NO_STACK = new StackTraceElement[0];
+
+  private final ValueCodec<T> valueCodec;
+  private final int maxStackDepth;
+
+  private ResultCodec(Builder builder, ValueCodec<T> valueCodec) {
+    this.valueCodec = valueCodec;
+    this.maxStackDepth = builder.maxStackDepth;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static <T> ResultCodec<T> of(ValueCodec<T> valueCodec) {
+    return builder().build(valueCodec);
+  }
+
+  public void encode(Result<T> result, ByteBuffer out) {
+    int start = out.position();
+    try {
+      write(result, out);
+    } catch (BufferOverflowException e) {
+      out.position(start);
+      throw e;
+    }
+  }
+
+  public void encodeAll(List<Result<T>> results, ByteBuffer out) {
+    int start = out.position();
+    try {
+      out.putInt(results.size());
+      for (Result<T> result : results) {
+        write(result, out);
+      }
+    } catch (BufferOverflowException e) {
+      out.position(start);
+      throw e;
+    }
+  }
+
+  public byte[] encode(Result<T> result) {
+    ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    while (true) {
+      try {
+        write(result, buffer);
+        return toArray(buffer);
+      } catch (BufferOverflowException e) {
+        buffer = ByteBuffer.allocate(grow(buffer.capacity()));
+      }
+    }
+  }
+
+  public void encode(Result<T> result, OutputStream out) throws IOException {
+    writeFrame(encode(result), out);
+  }
+
+  public void encodeAll(List<Result<T>> results, OutputStream out) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    while (true) {
+      try {
+        encodeAll(results, buffer);
+        writeFrame(toArray(buffer), out);
+        return;
+      } catch (BufferOverflowException e) {
+        buffer = ByteBuffer.allocate(grow(buffer.capacity()));
+      }
+    }
+  }
+
+  public Result<T> decode(ByteBuffer in) {
+    byte tag = in.get();
+    switch (tag) {
+      case SUCCESS:
+        return Result.success(valueCodec.decode(in));
+      case VOID_SUCCESS:
+        return voidSuccess();
+      case FAILURE:
+        return readFailure(in);
+      default:
+        throw new IllegalArgumentException("Unknown result tag " + tag);
+    }
+  }
+
+  public List<Result<T>> decodeAll(ByteBuffer in) {
+    int count = in.getInt();
+    ValueCodecs.checkLength(in, count);
+    List<Result<T>> results = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      results.add(decode(in));
+    }
+    return results;
+  }
+
+  public Result<T> decode(InputStream in) throws IOException {
+    return decode(readFrame(in));
+  }
+
+  public List<Result<T>> decodeAll(InputStream in) throws IOException {
+    return decodeAll(readFrame(in));
+  }
+
+  @SuppressWarnings("unchecked")
+  private Result<T> voidSuccess() {
+    return (Result<T>) (Result<?>) Success.voidInstance();
+  }
+
+  private void write(Result<T> result, ByteBuffer out) {
+    if (result.isFailure()) {
+      Failure<T> failure = (Failure<T>) result;
+      out.put(FAILURE);
+      writeFailure(failure.getException(), out);
+      List<String> context = failure.getContext();
+      out.putInt(context.size());
+      for (String frame : context) {
+        ValueCodecs.putString(out, frame);
+      }
+      return;
+    }
+    T value = result.unsafeGet();
+    if (value == null) {
+      out.put(VOID_SUCCESS);
+    } else {
+      out.put(SUCCESS);
+      valueCodec.encode(value, out);
+    }
+  }
+
+  private void writeFailure(RuntimeException exception, ByteBuffer out) {
+    boolean remote = exception instanceof RemoteFailureException;
+    ValueCodecs.putString(out, remote
+        ? ((RemoteFailureException) exception).getRemoteClassName()
+        : exception.getClass().getName());
+    ValueCodecs.putString(out, exception.getMessage());
+    if (maxStackDepth == 0) {
+      out.putInt(0);
+      return;
+    }
+    StackTraceElement[] stack = exception.getStackTrace();
+    int depth = Math.min(stack.length, maxStackDepth);
+    out.putInt(depth);
+    for (int i = 0; i < depth; i++) {
+      StackTraceElement frame = stack[i];
+      ValueCodecs.putString(out, frame.getClassName());
+      ValueCodecs.putString(out, frame.getMethodName());
+      ValueCodecs.putString(out, frame.getFileName());
+      out.putInt(frame.getLineNumber());
+    }
+  }
+
+  private static <T> Failure<T> readFailure(ByteBuffer in) {
+    Failure<T> failure = Failure.of(readException(in));
+    int frames = in.getInt();
+    ValueCodecs.checkLength(in, frames);
+    for (int i = 0; i < frames; i++) {
+      failure = failure.withContext(ValueCodecs.getString(in));
+    }
+    return failure;
+  }
+
+  private static RemoteFailureException readException(ByteBuffer in) {
+    String className = ValueCodecs.getString(in);
+    String message = ValueCodecs.getString(in);
+    int depth = in.getInt();
+    ValueCodecs.checkLength(in, depth);
+    StackTraceElement[] stack = depth == 0 ? NO_STACK : new StackTraceElement[depth];
+    for (int i = 0; i < depth; i++) {
+      String declaringClass = ValueCodecs.getString(in);
+      String methodName = ValueCodecs.getString(in);
+      String fileName = ValueCodecs.getString(in);
+      stack[i] = new StackTraceElement(declaringClass, methodName, fileName, in.getInt());
+    }
+    return new RemoteFailureException(className, message, stack);
+  }
+
+  private static void writeFrame(byte[] frame, OutputStream out) throws IOException {
+    out.write(frame.length >>> 24);
+    out.write(frame.length >>> 16);
+    out.write(frame.length >>> 8);
+    out.write(frame.length);
+    out.write(frame);
+  }
+
+  private static ByteBuffer readFrame(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    int length;
+    try {
+      length = data.readInt();
+    } catch (EOFException e) {
+      throw new EOFException("No result frame available");
+    }
+    if (length < 0) {
+      throw new IllegalArgumentException("Corrupt frame length " + length);
+    }
+    byte[] frame = new byte[length];
+    data.readFully(frame);
+    return ByteBuffer.wrap(frame);
+  }
+
+  private static byte[] toArray(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.position()];
+    System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+    return bytes;
+  }
+
+  private static int grow(int capacity) {
+    if (capacity >= Integer.MAX_VALUE / 2) {
+      throw new IllegalStateException("Encoded result does not fit in a byte array");
+    }
+    return capacity * 2;
+  }
+
+  @Override
+  public String toString() {
+    return "ResultCodec{" +
+        "valueCodec=" + valueCodec +
+        ", maxStackDepth=" + maxStackDepth +
+        '}';
+  }
+
+  public static final class Builder {
+    private int maxStackDepth;
+
+    private Builder() {
+    }
+
+    public Builder maxStackDepth(int maxStackDepth) {
+      if (maxStackDepth < 0) {
+        throw new IllegalArgumentException("Stack depth cannot be negative");
+      }
+      this.maxStackDepth = maxStackDepth;
+      return this;
+    }
+
+    public <T> ResultCodec<T> build(ValueCodec<T> valueCodec) {
+      if (valueCodec == null) {
+        throw new IllegalArgumentException("Value codec cannot be null");
+      }
+      return new ResultCodec<>(this, valueCodec);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.gurghet.result;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+public final class ResultCollectors {
+
+  private ResultCollectors() {
+  }
+
+  public static <T> Collector<Result<T>, ?, Partition<T>> partition() {
+    return Collector.of(
+        PartitionAccumulator<T>::new,
+        PartitionAccumulator::add,
+        PartitionAccumulator::merge,
+        accumulator -> new Partition<>(accumulator.successes.toList(), accumulator.failures.toList()));
+  }
+
+  public static <T> Collector<Result<T>, ?, List<T>> successesOnly() {
+    return Collector.of(
+        Segments<T>::new,
+        (segments, result) -> {
+          if (result.isSuccess()) {
+            segments.add(result.unsafeGet());
+          }
+        },
+        Segments::merge,
+        Segments::toList);
+  }
+
+  public static <T> Collector<Result<T>, ?, List<RuntimeException>> failuresOnly() {
+    return Collector.of(
+        Segments<RuntimeException>::new,
+        (segments, result) -> {
+          if (result.isFailure()) {
+            segments.add(((Failure<T>) result).getException());
+          }
+        },
+        Segments::merge,
+        Segments::toList);
+  }
+
+  public static <T> Collector<Result<T>, ?, Map<Class<? extends RuntimeException>, Long>> failureHistogram() {
+    return Collector.<Result<T>, Map<Class<? extends RuntimeException>, long[]>, Map<Class<? extends RuntimeException>, Long>>of(
+        HashMap::new,
+        (counts, result) -> {
+          if (result.isFailure()) {
+            counts.computeIfAbsent(((Failure<T>) result).getException().getClass(), type -> new long[1])[0]++;
+          }
+        },
+        (left, right) -> {
+          Map<Class<? extends RuntimeException>, long[]> larger = left.size() >= right.size() ? left : right;
+          Map<Class<? extends RuntimeException>, long[]> smaller = larger == left ? right : left;
+          smaller.forEach((type, count) -> larger.computeIfAbsent(type, t -> new long[1])[0] += count[0]);
+          return larger;
+        },
+        counts -> {
+          Map<Class<? extends RuntimeException>, Long> histogram = new HashMap<>(Math.max(16, counts.size() * 2));
+          counts.forEach((type, count) -> histogram.put(type, count[0]));
+          return histogram;
+        },
+        Collector.Characteristics.UNORDERED);
+  }
+
+  public static <T> Collector<Result<T>, ?, Result<List<T>>> firstFailureOrAll() {
+    return Collector.of(
+        FirstFailureAccumulator<T>::new,
+        FirstFailureAccumulator::add,
+        FirstFailureAccumulator::merge,
+        FirstFailureAccumulator::finish);
+  }
+
+  public static final class Partition<T> {
+    private final List<T> successes;
+    private final List<RuntimeException> failures;
+
+    private Partition(List<T> successes, List<RuntimeException> failures) {
+      this.successes = successes;
+      this.failures = failures;
+    }
+
+    public List<T> getSuccesses() {
+      return successes;
+    }
+
+    public List<RuntimeException> getFailures() {
+      return failures;
+    }
+
+    @Override
+    public String toString() {
+      return "Partition{" +
+          "successes=" + successes.size() +
+          ", failures=" + failures.size() +
+          '}';
+    }
+  }
+
+  private static final class PartitionAccumulator<T> {
+    private Segments<T> successes = new Segments<>();
+    private Segments<RuntimeException> failures = new Segments<>();
+
+    void add(Result<T> result) {
+      if (result.isFailure()) {
+        failures.add(((Failure<T>) result).getException());
+      } else {
+        successes.add(result.unsafeGet());
+      }
+    }
+
+    PartitionAccumulator<T> merge(PartitionAccumulator<T> other) {
+      successes = successes.merge(other.successes);
+      failures = failures.merge(other.failures);
+      return this;
+    }
+  }
+
+  private static final class FirstFailureAccumulator<T> {
+    private Segments<T> values = new Segments<>();
+    private Failure<T> failure;
+
+    void add(Result<T> result) {
+      if (failure != null) {
+        return;
+      }
+      if (result.isFailure()) {
+        failure = (Failure<T>) result;
+        values = null;
+      } else {
+        values.add(result.unsafeGet());
+      }
+    }
+
+    FirstFailureAccumulator<T> merge(FirstFailureAccumulator<T> other) {
+      if (failure != null) {
+        return this;
+      }
+      if (other.failure != null) {
+        return other;
+      }
+      values = values.merge(other.values);
+      return this;
+    }
+
+    Result<List<T>> finish() {
+      if (failure != null) {
+        return failure.retype();
+      }
+      return Result.success(values.toList());
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package com.gurghet.result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.StackTrace;
+
+final class ResultEvents {
+  static final String FAILURE_CREATED = "com.gurghet.result.FailureCreated";
+  static final String RECOVERED = "com.gurghet.result.Recovered";
+  static final String THUNK = "com.gurghet.result.Thunk";
+
+  private static final String UNKNOWN_CALL_SITE = "unknown";
+
+  // Nothing here touches JFR until something else has initialized it: loading
+  // Result must not start the recorder. Once JFR is up, a listener keeps the
+  // recording flag current so that no event is allocated unless a recording
+  // is running; escape analysis alone does not cover the slow paths.
+  private static volatile boolean listening;
+  private static volatile boolean unavailable;
+  private static volatile boolean recording;
+
+  private ResultEvents() {
+  }
+
+  private static boolean recording() {
+    if (listening) {
+      return recording;
+    }
+    if (unavailable || !recorderInitialized()) {
+      return false;
+    }
+    listen();
+    return recording;
+  }
+
+  private static boolean recorderInitialized() {
+    try {
+      return FlightRecorder.isInitialized();
+    } catch (LinkageError e) {
+      // No jdk.jfr module in this runtime: events stay off.
+      unavailable = true;
+      return false;
+    }
+  }
+
+  private static synchronized void listen() {
+    if (listening) {
+      return;
+    }
+    try {
+      FlightRecorder.addListener(new FlightRecorderListener() {
+        @Override
+        public void recorderInitialized(FlightRecorder recorder) {
+          refresh(recorder);
+        }
+
+        @Override
+        public void recordingStateChanged(Recording changed) {
+          refresh(FlightRecorder.getFlightRecorder());
+        }
+      });
+    } catch (RuntimeException | LinkageError e) {
+      // JFR not permitted: events stay off.
+    }
+    listening = true;
+  }
+
+  private static void refresh(FlightRecorder recorder) {
+    boolean running = false;
+    for (Recording r : recorder.getRecordings()) {
+      if (r.getState() == RecordingState.RUNNING) {
+        running = true;
+        break;
+      }
+    }
+    recording = running;
+  }
+
+  static void failureCreated(RuntimeException exception) {
+    if (!recording()) {
+      return;
+    }
+    FailureCreatedEvent event = new FailureCreatedEvent();
+    if (event.isEnabled()) {
+      event.exceptionClass = exception.getClass();
+      event.message = exception.getMessage();
+      event.callSite = origin(exception);
+      event.commit();
+    }
+  }
+
+  static void recovered(String operation, RuntimeException exception) {
+    if (!recording()) {
+      return;
+    }
+    RecoveredEvent event = new RecoveredEvent();
+    if (event.isEnabled()) {
+      event.exceptionClass = exception.getClass();
+      event.operation = operation;
+      event.callSite = origin(exception);
+      event.commit();
+    }
+  }
+
+  static ThunkEvent beginThunk() {
+    if (!recording()) {
+      return null;
+    }
+    ThunkEvent event = new ThunkEvent();
+    if (!event.isEnabled()) {
+      return null;
+    }
+    event.begin();
+    return event;
+  }
+
+  static void endThunk(ThunkEvent event, String callSite, Result<?> result) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.callSite = callSite == null ? Instrumentation.UNNAMED_CALL_SITE : callSite;
+      event.success = result.isSuccess();
+      if (!event.success) {
+        event.exceptionClass = ((Failure<?>) result).getException().getClass();
+      }
+      event.commit();
+    }
+  }
+
+  private static String origin(RuntimeException exception) {
+    StackTraceElement[] trace = exception.getStackTrace();
+    return trace.length == 0 ? UNKNOWN_CALL_SITE : trace[0].toString();
+  }
+
+  @Name(FAILURE_CREATED)
+  @Label("Failure Created")
+  @Category("Result")
+  @Description("A Failure was constructed around an exception")
+  @StackTrace(true)
+  static final class FailureCreatedEvent extends Event {
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+
+    @Label("Message")
+    String message;
+
+    @Label("Call Site")
+    @Description("Frame that threw the exception, or unknown for stackless exceptions")
+    String callSite;
+  }
+
+  @Name(RECOVERED)
+  @Label("Failure Recovered")
+  @Category("Result")
+  @Description("A failure was handled by catchAll, catchSome or translated by mapError")
+  @StackTrace(true)
+  static final class RecoveredEvent extends Event {
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Call Site")
+    @Description("Frame that threw the recovered exception, or unknown for stackless exceptions")
+    String callSite;
+  }
+
+  @Name(THUNK)
+  @Label("Result Thunk")
+  @Category("Result")
+  @Description("Execution of a Result.of or Result.ofSneakyThrows thunk")
+  @StackTrace(false)
+  static final class ThunkEvent extends Event {
+    @Label("Call Site")
+    String callSite;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Exception Class")
+    Class<?> exceptionClass;
+  }
+}
@@ -0,0 +1,59 @@
+package com.gurghet.result;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+final class ResultExecutors {
+
+  private ResultExecutors() {
+  }
+
+  static Executor defaultExecutor() {
+    return DefaultExecutorHolder.INSTANCE;
+  }
+
+  static ScheduledExecutorService scheduler() {
+    return SchedulerHolder.INSTANCE;
+  }
+
+  static ThreadFactory daemonThreadFactory(String prefix) {
+    AtomicInteger counter = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static ExecutorService virtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static final class SchedulerHolder {
+    static final ScheduledExecutorService INSTANCE = createScheduler();
+
+    private static ScheduledExecutorService createScheduler() {
+      ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, daemonThreadFactory("result-scheduler-"));
+      scheduler.setRemoveOnCancelPolicy(true);
+      return scheduler;
+    }
+  }
+
+  private static final class DefaultExecutorHolder {
+    private static final ExecutorService VIRTUAL_EXECUTOR = virtualThreadExecutor();
+    static final Executor INSTANCE = VIRTUAL_EXECUTOR != null
+        ? VIRTUAL_EXECUTOR
+        : Executors.newCachedThreadPool(daemonThreadFactory("result-async-"));
+  }
+}
@@ -0,0 +1,299 @@
+package com.gurghet.result;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+public final class ResultFlow<A, B> implements Flow.Processor<A, B> {
+  public static final int DEFAULT_PREFETCH = 128;
+
+  private final Function<A, Result<B>> mapper;
+  private final Function<A, AsyncResult<B>> asyncMapper;
+  private final BiConsumer<? super A, ? super Failure<B>> deadLetter;
+  private final int prefetch;
+  private final int limit;
+
+  private final Queue<Slot<A, B>> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger wip = new AtomicInteger();
+  private final AtomicLong requested = new AtomicLong();
+  private final AtomicBoolean started = new AtomicBoolean();
+  private final AtomicBoolean subscribed = new AtomicBoolean();
+  private volatile Flow.Subscription upstream;
+  private volatile Flow.Subscriber<? super B> downstream;
+  private volatile boolean done;
+  private volatile Throwable error;
+  private volatile boolean cancelled;
+  private boolean terminated;
+  private int consumed;
+
+  private ResultFlow(Function<A, Result<B>> mapper, Function<A, AsyncResult<B>> asyncMapper,
+                     BiConsumer<? super A, ? super Failure<B>> deadLetter, int prefetch) {
+    if (deadLetter == null) {
+      throw new IllegalArgumentException("Dead-letter sink cannot be null");
+    }
+    if (prefetch < 1) {
+      throw new IllegalArgumentException("Prefetch must be at least one");
+    }
+    this.mapper = mapper;
+    this.asyncMapper = asyncMapper;
+    this.deadLetter = deadLetter;
+    this.prefetch = prefetch;
+    this.limit = prefetch - (prefetch >> 2);
+  }
+
+  public static <A, B> ResultFlow<A, B> map(Function<A, Result<B>> mapper,
+                                            BiConsumer<? super A, ? super Failure<B>> deadLetter) {
+    return map(mapper, deadLetter, DEFAULT_PREFETCH);
+  }
+
+  public static <A, B> ResultFlow<A, B> map(Function<A, Result<B>> mapper,
+                                            BiConsumer<? super A, ? super Failure<B>> deadLetter, int prefetch) {
+    if (mapper == null) {
+      throw new IllegalArgumentException("Flow mapper cannot be null");
+    }
+    return new ResultFlow<>(mapper, null, deadLetter, prefetch);
+  }
+
+  public static <A, B> ResultFlow<A, B> mapAsync(Function<A, AsyncResult<B>> mapper, int maxConcurrency,
+                                                 BiConsumer<? super A, ? super Failure<B>> deadLetter) {
+    if (mapper == null) {
+      throw new IllegalArgumentException("Flow mapper cannot be null");
+    }
+    return new ResultFlow<>(null, mapper, deadLetter, maxConcurrency);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super B> subscriber) {
+    if (subscriber == null) {
+      throw new NullPointerException("Subscriber cannot be null");
+    }
+    if (!subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+      });
+      subscriber.onError(new IllegalStateException("ResultFlow supports a single subscriber"));
+      return;
+    }
+    subscriber.onSubscribe(new Downstream());
+    downstream = subscriber;
+    start();
+    drain();
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    if (upstream != null || cancelled) {
+      subscription.cancel();
+      return;
+    }
+    upstream = subscription;
+    start();
+  }
+
+  @Override
+  public void onNext(A item) {
+    if (done || cancelled) {
+      return;
+    }
+    Slot<A, B> slot = new Slot<>(item);
+    queue.offer(slot);
+    if (mapper != null) {
+      slot.result = apply(item);
+    } else {
+      AsyncResult<B> pending;
+      try {
+        pending = asyncMapper.apply(item);
+      } catch (RuntimeException e) {
+        pending = AsyncResult.completed(Result.failure(e));
+      }
+      if (pending == null) {
+        pending = AsyncResult.completed(Result.failure(new NullPointerException("Flow mapper returned null")));
+      }
+      pending.whenComplete(result -> {
+        slot.result = result;
+        drain();
+      });
+    }
+    drain();
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    if (done) {
+      return;
+    }
+    error = throwable;
+    done = true;
+    drain();
+  }
+
+  @Override
+  public void onComplete() {
+    done = true;
+    drain();
+  }
+
+  private Result<B> apply(A item) {
+    try {
+      Result<B> result = mapper.apply(item);
+      return result != null ? result : Result.failure(new NullPointerException("Flow mapper returned null"));
+    } catch (RuntimeException e) {
+      return Result.failure(e);
+    }
+  }
+
+  private void start() {
+    Flow.Subscription subscription = upstream;
+    if (subscription != null && downstream != null && started.compareAndSet(false, true)) {
+      subscription.request(prefetch);
+    }
+  }
+
+  private void drain() {
+    if (wip.getAndIncrement() != 0) {
+      return;
+    }
+    int missed = 1;
+    do {
+      Flow.Subscriber<? super B> subscriber = downstream;
+      if (subscriber != null && !terminated) {
+        long demand = requested.get();
+        long emitted = 0;
+        while (true) {
+          if (cancelled) {
+            queue.clear();
+            break;
+          }
+          Throwable failure = error;
+          if (failure != null) {
+            queue.clear();
+            terminate();
+            subscriber.onError(failure);
+            break;
+          }
+          Slot<A, B> head = queue.peek();
+          if (head == null) {
+            if (done) {
+              terminate();
+              subscriber.onComplete();
+            }
+            break;
+          }
+          Result<B> result = head.result;
+          if (result == null) {
+            break;
+          }
+          if (result.isFailure()) {
+            queue.poll();
+            try {
+              deadLetter.accept(head.item, (Failure<B>) result);
+            } catch (RuntimeException e) {
+              error = e;
+              cancelUpstream();
+              continue;
+            }
+            replenish();
+            continue;
+          }
+          if (emitted == demand) {
+            demand = requested.get();
+            if (emitted == demand) {
+              break;
+            }
+          }
+          queue.poll();
+          subscriber.onNext(result.unsafeGet());
+          emitted++;
+          replenish();
+        }
+        if (emitted != 0 && demand != Long.MAX_VALUE) {
+          requested.addAndGet(-emitted);
+        }
+      } else if (cancelled) {
+        queue.clear();
+      }
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void replenish() {
+    if (++consumed == limit) {
+      consumed = 0;
+      Flow.Subscription subscription = upstream;
+      if (subscription != null && !done) {
+        subscription.request(limit);
+      }
+    }
+  }
+
+  private void terminate() {
+    terminated = true;
+    cancelled = true;
+  }
+
+  private void cancelUpstream() {
+    Flow.Subscription subscription = upstream;
+    if (subscription != null) {
+      subscription.cancel();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ResultFlow{" +
+        "prefetch=" + prefetch +
+        ", async=" + (asyncMapper != null) +
+        '}';
+  }
+
+  private final class Downstream implements Flow.Subscription {
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        error = new IllegalArgumentException("Subscriber requested " + n + " items, must be positive");
+        cancelUpstream();
+        drain();
+        return;
+      }
+      long current;
+      long next;
+      do {
+        current = requested.get();
+        if (current == Long.MAX_VALUE) {
+          return;
+        }
+        next = current + n < 0 ? Long.MAX_VALUE : current + n;
+      } while (!requested.compareAndSet(current, next));
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      if (!cancelled) {
+        cancelled = true;
+        cancelUpstream();
+        drain();
+      }
+    }
+  }
+
+  private static final class Slot<A, B> {
+    private final A item;
+    private volatile Result<B> result;
+
+    private Slot(A item) {
+      this.item = item;
+    }
+  }
+}
@@ -0,0 +1,284 @@
+package com.gurghet.result;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+public final class ResultGuard {
+  private static final Failure<Object> CIRCUIT_OPEN = new Failure<>(GuardRejectedException.CIRCUIT_OPEN);
+  private static final Failure<Object> BULKHEAD_FULL = new Failure<>(GuardRejectedException.BULKHEAD_FULL);
+
+  private final int failureRatePercent;
+  private final int slidingWindowSize;
+  private final int minimumCalls;
+  private final long openNanos;
+  private final int halfOpenCalls;
+  private final int maxConcurrentCalls;
+  private final AtomicReference<State> state;
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  private ResultGuard(Builder builder) {
+    this.failureRatePercent = builder.failureRatePercent;
+    this.slidingWindowSize = builder.slidingWindowSize;
+    this.minimumCalls = Math.min(builder.minimumCalls, builder.slidingWindowSize);
+    this.openNanos = builder.openDuration.toNanos();
+    this.halfOpenCalls = builder.halfOpenCalls;
+    this.maxConcurrentCalls = builder.maxConcurrentCalls;
+    this.state = new AtomicReference<>(closed());
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public <T> Result<T> call(CheckedSupplier<T> checkedThunk) {
+    if (checkedThunk == null) {
+      throw new IllegalArgumentException("Result cannot hold a null thunk");
+    }
+    return execute(checkedThunk, null);
+  }
+
+  public <T> Result<T> callResult(Supplier<Result<T>> thunk) {
+    if (thunk == null) {
+      throw new IllegalArgumentException("Result cannot hold a null thunk");
+    }
+    return execute(null, thunk);
+  }
+
+  private <T> Result<T> execute(CheckedSupplier<T> checkedThunk, Supplier<Result<T>> thunk) {
+    State admittedIn = acquire();
+    if (admittedIn == null) {
+      return CIRCUIT_OPEN.retype();
+    }
+    if (!enterBulkhead()) {
+      release(admittedIn);
+      return BULKHEAD_FULL.retype();
+    }
+    Result<T> result;
+    try {
+      result = checkedThunk != null ? Result.ofSneakyThrows(checkedThunk) : thunk.get();
+      if (result == null) {
+        result = Result.failure(new NullPointerException("Guarded thunk returned null"));
+      }
+    } catch (RuntimeException e) {
+      result = Result.failure(e);
+    } catch (Error e) {
+      record(admittedIn, true);
+      throw e;
+    } finally {
+      exitBulkhead();
+    }
+    record(admittedIn, result.isFailure());
+    return result;
+  }
+
+  public <T> Supplier<Result<T>> decorate(CheckedSupplier<T> checkedThunk) {
+    return () -> call(checkedThunk);
+  }
+
+  public CircuitState getState() {
+    return state.get().kind;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  private State acquire() {
+    while (true) {
+      State current = state.get();
+      switch (current.kind) {
+        case CLOSED:
+          return current;
+        case OPEN:
+          return null;
+        default:
+          int permits = current.permits.get();
+          if (permits <= 0) {
+            return null;
+          }
+          if (current.permits.compareAndSet(permits, permits - 1)) {
+            return current;
+          }
+          break;
+      }
+    }
+  }
+
+  private void release(State admittedIn) {
+    if (admittedIn.kind == CircuitState.HALF_OPEN) {
+      admittedIn.permits.incrementAndGet();
+    }
+  }
+
+  private void record(State admittedIn, boolean failed) {
+    if (admittedIn.kind == CircuitState.CLOSED) {
+      if (admittedIn.window.record(failed)) {
+        trip(admittedIn);
+      }
+    } else if (failed) {
+      trip(admittedIn);
+    } else if (admittedIn.successes.incrementAndGet() >= halfOpenCalls) {
+      state.compareAndSet(admittedIn, closed());
+    }
+  }
+
+  private boolean enterBulkhead() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= maxConcurrentCalls) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void exitBulkhead() {
+    inFlight.decrementAndGet();
+  }
+
+  private State closed() {
+    return new State(CircuitState.CLOSED, new Window(slidingWindowSize, minimumCalls, failureRatePercent), 0);
+  }
+
+  private void trip(State from) {
+    State open = new State(CircuitState.OPEN, null, 0);
+    if (state.compareAndSet(from, open)) {
+      ResultExecutors.scheduler().schedule(
+          () -> state.compareAndSet(open, new State(CircuitState.HALF_OPEN, null, halfOpenCalls)),
+          openNanos,
+          TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ResultGuard{" +
+        "state=" + getState() +
+        ", inFlight=" + inFlight.get() +
+        '}';
+  }
+
+  public enum CircuitState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private static final class State {
+    final CircuitState kind;
+    final Window window;
+    final AtomicInteger permits;
+    final AtomicInteger successes;
+
+    State(CircuitState kind, Window window, int permits) {
+      this.kind = kind;
+      this.window = window;
+      this.permits = kind == CircuitState.HALF_OPEN ? new AtomicInteger(permits) : null;
+      this.successes = kind == CircuitState.HALF_OPEN ? new AtomicInteger() : null;
+    }
+  }
+
+  private static final class Window {
+    private static final int EMPTY = 0;
+    private static final int SUCCESS = 1;
+    private static final int FAILURE = 2;
+
+    private final AtomicIntegerArray outcomes;
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicInteger failures = new AtomicInteger();
+    private final int minimumCalls;
+    private final int failureRatePercent;
+
+    Window(int size, int minimumCalls, int failureRatePercent) {
+      this.outcomes = new AtomicIntegerArray(size);
+      this.minimumCalls = minimumCalls;
+      this.failureRatePercent = failureRatePercent;
+    }
+
+    boolean record(boolean failed) {
+      long call = calls.getAndIncrement();
+      int outcome = failed ? FAILURE : SUCCESS;
+      int previous = outcomes.getAndSet((int) (call % outcomes.length()), outcome);
+      if (!failed) {
+        if (previous == FAILURE) {
+          failures.decrementAndGet();
+        }
+        return false;
+      }
+      int failureCount = previous == FAILURE ? failures.get() : failures.incrementAndGet();
+      long recorded = Math.min(call + 1, outcomes.length());
+      return recorded >= minimumCalls && failureCount * 100L >= failureRatePercent * recorded;
+    }
+  }
+
+  public static final class Builder {
+    private int failureRatePercent = 50;
+    private int slidingWindowSize = 100;
+    private int minimumCalls = 20;
+    private Duration openDuration = Duration.ofSeconds(30);
+    private int halfOpenCalls = 5;
+    private int maxConcurrentCalls = Integer.MAX_VALUE;
+
+    private Builder() {
+    }
+
+    public Builder failureRateThreshold(int percent) {
+      if (percent < 1 || percent > 100) {
+        throw new IllegalArgumentException("Failure rate threshold must be between 1 and 100");
+      }
+      this.failureRatePercent = percent;
+      return this;
+    }
+
+    public Builder slidingWindowSize(int calls) {
+      if (calls < 1) {
+        throw new IllegalArgumentException("Sliding window must hold at least one call");
+      }
+      this.slidingWindowSize = calls;
+      return this;
+    }
+
+    public Builder minimumCalls(int calls) {
+      if (calls < 1) {
+        throw new IllegalArgumentException("Minimum calls must be at least one");
+      }
+      this.minimumCalls = calls;
+      return this;
+    }
+
+    public Builder openDuration(Duration openDuration) {
+      if (openDuration == null || openDuration.isNegative()) {
+        throw new IllegalArgumentException("Open duration cannot be null or negative");
+      }
+      this.openDuration = openDuration;
+      return this;
+    }
+
+    public Builder halfOpenCalls(int calls) {
+      if (calls < 1) {
+        throw new IllegalArgumentException("Half-open state must allow at least one call");
+      }
+      this.halfOpenCalls = calls;
+      return this;
+    }
+
+    public Builder maxConcurrentCalls(int calls) {
+      if (calls < 1) {
+        throw new IllegalArgumentException("Bulkhead must allow at least one call");
+      }
+      this.maxConcurrentCalls = calls;
+      return this;
+    }
+
+    public ResultGuard build() {
+      return new ResultGuard(this);
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.gurghet.result;
+
+public interface ResultInstrumentation {
+
+  default void onThunkCompleted(String callSite, long durationNanos, RuntimeException failure) {
+  }
+
+  default void onFailureCreated(RuntimeException exception) {
+  }
+
+  default void onRecovered(RuntimeException exception) {
+  }
+}
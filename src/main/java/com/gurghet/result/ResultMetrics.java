@@ -0,0 +1,157 @@
+package com.gurghet.result;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ResultMetrics implements ResultInstrumentation {
+  private static final ResultMetrics GLOBAL = new ResultMetrics();
+
+  private final ConcurrentHashMap<Class<? extends RuntimeException>, LongAdder> failures = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Class<? extends RuntimeException>, LongAdder> recoveries = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, CallSite> callSites = new ConcurrentHashMap<>();
+
+  public static ResultMetrics global() {
+    return GLOBAL;
+  }
+
+  public static boolean isEnabled() {
+    return Instrumentation.ENABLED && Boolean.getBoolean(Instrumentation.METRICS_PROPERTY);
+  }
+
+  @Override
+  public void onThunkCompleted(String callSite, long durationNanos, RuntimeException failure) {
+    CallSite site = callSites.get(callSite);
+    if (site == null) {
+      site = callSites.computeIfAbsent(callSite, CallSite::new);
+    }
+    site.record(durationNanos, failure == null);
+  }
+
+  @Override
+  public void onFailureCreated(RuntimeException exception) {
+    increment(failures, exception.getClass());
+  }
+
+  @Override
+  public void onRecovered(RuntimeException exception) {
+    increment(recoveries, exception.getClass());
+  }
+
+  public Map<Class<? extends RuntimeException>, Long> failureCounts() {
+    return snapshot(failures);
+  }
+
+  public Map<Class<? extends RuntimeException>, Long> recoveryCounts() {
+    return snapshot(recoveries);
+  }
+
+  public CallSite callSite(String name) {
+    return callSites.get(name);
+  }
+
+  public Map<String, CallSite> callSites() {
+    return Collections.unmodifiableMap(callSites);
+  }
+
+  public void reset() {
+    failures.clear();
+    recoveries.clear();
+    callSites.clear();
+  }
+
+  private static void increment(ConcurrentHashMap<Class<? extends RuntimeException>, LongAdder> counters,
+                                Class<? extends RuntimeException> type) {
+    LongAdder counter = counters.get(type);
+    if (counter == null) {
+      counter = counters.computeIfAbsent(type, t -> new LongAdder());
+    }
+    counter.increment();
+  }
+
+  private static Map<Class<? extends RuntimeException>, Long> snapshot(
+      ConcurrentHashMap<Class<? extends RuntimeException>, LongAdder> counters) {
+    Map<Class<? extends RuntimeException>, Long> snapshot = new HashMap<>();
+    counters.forEach((type, counter) -> snapshot.put(type, counter.sum()));
+    return snapshot;
+  }
+
+  @Override
+  public String toString() {
+    return "ResultMetrics{" +
+        "failures=" + failureCounts() +
+        ", recoveries=" + recoveryCounts() +
+        ", callSites=" + callSites.keySet() +
+        '}';
+  }
+
+  public static final class CallSite {
+    private static final int BUCKETS = 64;
+
+    private final String name;
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder[] latencyBuckets = new LongAdder[BUCKETS];
+
+    private CallSite(String name) {
+      this.name = name;
+      for (int i = 0; i < BUCKETS; i++) {
+        latencyBuckets[i] = new LongAdder();
+      }
+    }
+
+    void record(long durationNanos, boolean success) {
+      (success ? successes : failures).increment();
+      latencyBuckets[BUCKETS - 1 - Long.numberOfLeadingZeros(Math.max(1, durationNanos))].increment();
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public long getSuccessCount() {
+      return successes.sum();
+    }
+
+    public long getFailureCount() {
+      return failures.sum();
+    }
+
+    public long latencyPercentileNanos(double percentile) {
+      if (percentile < 0 || percentile > 100) {
+        throw new IllegalArgumentException("Percentile must be between 0 and 100");
+      }
+      long[] counts = new long[BUCKETS];
+      long total = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        counts[i] = latencyBuckets[i].sum();
+        total += counts[i];
+      }
+      if (total == 0) {
+        return 0;
+      }
+      long rank = (long) Math.ceil(total * percentile / 100.0);
+      long seen = 0;
+      for (int i = 0; i < BUCKETS; i++) {
+        seen += counts[i];
+        if (seen >= rank && counts[i] > 0) {
+          return i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+        }
+      }
+      return Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+      return "CallSite{" +
+          "name='" + name + '\'' +
+          ", successes=" + getSuccessCount() +
+          ", failures=" + getFailureCount() +
+          ", p50=" + latencyPercentileNanos(50) +
+          ", p99=" + latencyPercentileNanos(99) +
+          '}';
+    }
+  }
+}
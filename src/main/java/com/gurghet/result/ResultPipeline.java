@@ -0,0 +1,203 @@
+package com.gurghet.result;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class ResultPipeline<A, B> {
+  private static final int MAP = 0;
+  private static final int FLAT_MAP = 1;
+  private static final int MAP_ERROR = 2;
+  private static final int TAP = 3;
+  private static final int TAP_ERROR = 4;
+  private static final int CATCH_ALL = 5;
+  private static final int CATCH_SOME = 6;
+  private static final int CONTEXT = 7;
+
+  private static final ResultPipeline<?, ?> IDENTITY = new ResultPipeline<>(new Stage[0]);
+
+  private final Stage[] stages;
+
+  private ResultPipeline(Stage[] stages) {
+    this.stages = stages;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static <A> ResultPipeline<A, A> start() {
+    return (ResultPipeline<A, A>) IDENTITY;
+  }
+
+  private <C> ResultPipeline<A, C> append(int kind, Object function, Class<?> exceptionType) {
+    Stage[] next = Arrays.copyOf(stages, stages.length + 1);
+    next[stages.length] = new Stage(kind, function, exceptionType);
+    return new ResultPipeline<>(next);
+  }
+
+  public <C> ResultPipeline<A, C> map(Function<B, C> mapper) {
+    return append(MAP, requireStep(mapper), null);
+  }
+
+  public <C> ResultPipeline<A, C> flatMap(Function<B, Result<C>> mapper) {
+    return append(FLAT_MAP, requireStep(mapper), null);
+  }
+
+  public ResultPipeline<A, B> mapError(Function<RuntimeException, RuntimeException> mapper) {
+    return append(MAP_ERROR, requireStep(mapper), null);
+  }
+
+  public ResultPipeline<A, B> context(String context) {
+    return append(CONTEXT, requireStep(context), null);
+  }
+
+  public ResultPipeline<A, B> context(Supplier<String> context) {
+    return append(CONTEXT, requireStep(context), null);
+  }
+
+  public ResultPipeline<A, B> tap(Consumer<B> c) {
+    return append(TAP, requireStep(c), null);
+  }
+
+  public ResultPipeline<A, B> tapError(Consumer<RuntimeException> c) {
+    return append(TAP_ERROR, requireStep(c), null);
+  }
+
+  public ResultPipeline<A, B> catchAll(Function<RuntimeException, Result<B>> handler) {
+    return append(CATCH_ALL, requireStep(handler), null);
+  }
+
+  public <E extends RuntimeException> ResultPipeline<A, B> catchSome(Class<E> exceptionType, Function<E, Result<B>> handler) {
+    if (exceptionType == null) {
+      throw new IllegalArgumentException("Pipeline cannot catch a null exception type");
+    }
+    return append(CATCH_SOME, requireStep(handler), exceptionType);
+  }
+
+  public <C> ResultPipeline<A, C> andThen(ResultPipeline<B, C> next) {
+    Stage[] joined = Arrays.copyOf(stages, stages.length + next.stages.length);
+    System.arraycopy(next.stages, 0, joined, stages.length, next.stages.length);
+    return new ResultPipeline<>(joined);
+  }
+
+  public Function<A, Result<B>> compile() {
+    return this::apply;
+  }
+
+  public Result<B> apply(A input) {
+    return run(stages, input);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <B> Result<B> run(Stage[] stages, Object input) {
+    Object value = input;
+    RuntimeException error = input == null ? new IllegalArgumentException("Success cannot hold a null value") : null;
+    Result<?> carried = null;
+    for (Stage stage : stages) {
+      try {
+        switch (stage.kind) {
+          case MAP:
+            if (error == null) {
+              value = ((Function<Object, Object>) stage.function).apply(value);
+              carried = null;
+              if (value == null) {
+                error = new IllegalArgumentException("Success cannot hold a null value");
+              }
+            }
+            break;
+          case FLAT_MAP:
+            if (error == null) {
+              carried = ((Function<Object, Result<?>>) stage.function).apply(value);
+              if (carried == null) {
+                error = new NullPointerException("flatMap mapper returned null");
+              } else if (carried.isFailure()) {
+                error = ((Failure<?>) carried).getException();
+              } else {
+                value = carried.unsafeGet();
+              }
+            }
+            break;
+          case MAP_ERROR:
+            if (error != null) {
+              RuntimeException mapped = ((Function<RuntimeException, RuntimeException>) stage.function).apply(error);
+              if (mapped != error) {
+                error = mapped == null ? new IllegalArgumentException("Failure cannot hold a null exception") : mapped;
+                carried = carried != null ? ((Failure<?>) carried).withException(error) : null;
+              }
+            }
+            break;
+          case CONTEXT:
+            if (error != null) {
+              Failure<?> failure = carried != null ? (Failure<?>) carried : Result.failure(error);
+              carried = stage.function instanceof String
+                  ? failure.withContext((String) stage.function)
+                  : failure.withContext((Supplier<String>) stage.function);
+            }
+            break;
+          case TAP:
+            if (error == null) {
+              ((Consumer<Object>) stage.function).accept(value);
+            }
+            break;
+          case TAP_ERROR:
+            if (error != null) {
+              ((Consumer<RuntimeException>) stage.function).accept(error);
+            }
+            break;
+          case CATCH_ALL:
+          case CATCH_SOME:
+            if (error != null && (stage.exceptionType == null || stage.exceptionType.isInstance(error))) {
+              carried = ((Function<RuntimeException, Result<?>>) stage.function).apply(error);
+              if (carried.isFailure()) {
+                error = ((Failure<?>) carried).getException();
+              } else {
+                error = null;
+                value = carried.unsafeGet();
+              }
+            }
+            break;
+          default:
+            throw new IllegalStateException("Unknown pipeline stage " + stage.kind);
+        }
+      } catch (RuntimeException e) {
+        if (stage.kind == CATCH_ALL || stage.kind == CATCH_SOME) {
+          throw e;
+        }
+        carried = stage.kind == TAP ? Failure.withContext(e, Result.TAP_FAILED_CONTEXT) : null;
+        error = e;
+      }
+    }
+    if (carried != null) {
+      return (Result<B>) carried;
+    }
+    if (error != null) {
+      return Result.failure(error);
+    }
+    return Result.success((B) value);
+  }
+
+  private static <F> F requireStep(F step) {
+    if (step == null) {
+      throw new IllegalArgumentException("Pipeline cannot hold a null step");
+    }
+    return step;
+  }
+
+  @Override
+  public String toString() {
+    return "ResultPipeline{" +
+        "stages=" + stages.length +
+        '}';
+  }
+
+  private static final class Stage {
+    final int kind;
+    final Object function;
+    final Class<?> exceptionType;
+
+    Stage(int kind, Object function, Class<?> exceptionType) {
+      this.kind = kind;
+      this.function = function;
+      this.exceptionType = exceptionType;
+    }
+  }
+}
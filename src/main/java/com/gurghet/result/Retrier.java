@@ -0,0 +1,127 @@
+package com.gurghet.result;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+final class Retrier<T> {
+  private final CheckedSupplier<T> thunk;
+  private final RetryPolicy policy;
+  private final long startNanos = System.nanoTime();
+  private final ArrayDeque<RuntimeException> history;
+  private int attempts;
+  private long previousDelayNanos;
+  private boolean retryable = true;
+
+  Retrier(CheckedSupplier<T> thunk, RetryPolicy policy) {
+    if (thunk == null) {
+      throw new IllegalArgumentException("Result cannot hold a null thunk");
+    }
+    if (policy == null) {
+      throw new IllegalArgumentException("Retry policy cannot be null");
+    }
+    this.thunk = thunk;
+    this.policy = policy;
+    this.history = new ArrayDeque<>(Math.min(policy.getHistoryLimit(), policy.getMaxAttempts()));
+  }
+
+  Result<T> runBlocking() {
+    while (true) {
+      Result<T> result = attempt();
+      if (result.isSuccess()) {
+        return result;
+      }
+      long delay = nextDelay(((Failure<T>) result).getException());
+      if (delay < 0) {
+        return giveUp(result);
+      }
+      try {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return giveUp(result);
+      }
+    }
+  }
+
+  AsyncResult<T> runAsync(ScheduledExecutorService scheduler, Executor executor) {
+    CompletableFuture<Result<T>> promise = new CompletableFuture<>();
+    submit(promise, scheduler, executor);
+    return AsyncResult.fromResultFuture(promise);
+  }
+
+  private void submit(CompletableFuture<Result<T>> promise, ScheduledExecutorService scheduler, Executor executor) {
+    try {
+      executor.execute(() -> {
+        Result<T> result = attempt();
+        if (result.isSuccess()) {
+          promise.complete(result);
+          return;
+        }
+        long delay = nextDelay(((Failure<T>) result).getException());
+        if (delay < 0) {
+          promise.complete(giveUp(result));
+          return;
+        }
+        try {
+          scheduler.schedule(() -> submit(promise, scheduler, executor), delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+          promise.complete(giveUp(result));
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      promise.complete(attempts == 0 ? Result.failure(e) : giveUp(Result.failure(history.peekLast())));
+    }
+  }
+
+  private Result<T> attempt() {
+    attempts++;
+    return Result.ofSneakyThrows(thunk);
+  }
+
+  private long nextDelay(RuntimeException e) {
+    if (history.size() == policy.getHistoryLimit()) {
+      history.pollFirst();
+    }
+    history.addLast(e);
+    if (!policy.shouldRetry(e)) {
+      retryable = false;
+      return -1;
+    }
+    if (attempts >= policy.getMaxAttempts()) {
+      return -1;
+    }
+    long delay = policy.nextDelayNanos(attempts, previousDelayNanos);
+    if (System.nanoTime() - startNanos > policy.getMaxDurationNanos() - delay) {
+      return -1;
+    }
+    previousDelayNanos = delay;
+    return delay;
+  }
+
+  // Only running out of attempts or time is a retry failure. A permanent
+  // exception is returned as thrown, with the earlier attempts as context.
+  private Result<T> giveUp(Result<T> last) {
+    if (attempts <= 1) {
+      return last;
+    }
+    if (retryable) {
+      return Result.failure(new RetryException(attempts, new ArrayList<>(history)));
+    }
+    Failure<T> failure = (Failure<T>) last;
+    int earlierAttempts = history.size() - 1;
+    int attempt = attempts - history.size();
+    for (RuntimeException earlier : history) {
+      if (earlierAttempts-- == 0) {
+        break;
+      }
+      int number = ++attempt;
+      failure = failure.withContext(() -> "retry attempt " + number + " failed: " + earlier);
+    }
+    return failure;
+  }
+}
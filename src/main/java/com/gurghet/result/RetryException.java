@@ -0,0 +1,26 @@
+package com.gurghet.result;
+
+import java.util.List;
+
+public class RetryException extends StacklessException {
+  private final int attempts;
+  private final List<RuntimeException> history;
+
+  public RetryException(int attempts, List<RuntimeException> history) {
+    super("Gave up after " + attempts + " attempts", history.isEmpty() ? null : history.get(history.size() - 1));
+    this.attempts = attempts;
+    this.history = List.copyOf(history);
+  }
+
+  public int getAttempts() {
+    return attempts;
+  }
+
+  public List<RuntimeException> getHistory() {
+    return history;
+  }
+
+  public RuntimeException getLastException() {
+    return (RuntimeException) getCause();
+  }
+}
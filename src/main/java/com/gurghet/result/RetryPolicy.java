@@ -0,0 +1,162 @@
+package com.gurghet.result;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+public final class RetryPolicy {
+  private final int maxAttempts;
+  private final long maxDurationNanos;
+  private final long initialDelayNanos;
+  private final long maxDelayNanos;
+  private final double multiplier;
+  private final boolean decorrelatedJitter;
+  private final Predicate<RuntimeException> retryOn;
+  private final int historyLimit;
+
+  private RetryPolicy(Builder builder) {
+    this.maxAttempts = builder.maxAttempts;
+    this.maxDurationNanos = builder.maxDuration == null ? Long.MAX_VALUE : builder.maxDuration.toNanos();
+    this.initialDelayNanos = builder.initialDelay.toNanos();
+    this.maxDelayNanos = builder.maxDelay.toNanos();
+    this.multiplier = builder.multiplier;
+    this.decorrelatedJitter = builder.decorrelatedJitter;
+    this.retryOn = builder.retryOn;
+    this.historyLimit = builder.historyLimit;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  int getMaxAttempts() {
+    return maxAttempts;
+  }
+
+  long getMaxDurationNanos() {
+    return maxDurationNanos;
+  }
+
+  int getHistoryLimit() {
+    return historyLimit;
+  }
+
+  boolean shouldRetry(RuntimeException e) {
+    return retryOn.test(e);
+  }
+
+  long nextDelayNanos(int failedAttempts, long previousDelayNanos) {
+    if (decorrelatedJitter) {
+      long upper = previousDelayNanos > Long.MAX_VALUE / 3 ? Long.MAX_VALUE : Math.max(initialDelayNanos, previousDelayNanos * 3);
+      long delay = upper <= initialDelayNanos ? initialDelayNanos : ThreadLocalRandom.current().nextLong(initialDelayNanos, upper);
+      return Math.min(maxDelayNanos, delay);
+    }
+    double delay = initialDelayNanos * Math.pow(multiplier, failedAttempts - 1);
+    return delay >= maxDelayNanos ? maxDelayNanos : (long) delay;
+  }
+
+  @Override
+  public String toString() {
+    return "RetryPolicy{" +
+        "maxAttempts=" + maxAttempts +
+        ", initialDelay=" + Duration.ofNanos(initialDelayNanos) +
+        ", maxDelay=" + Duration.ofNanos(maxDelayNanos) +
+        ", multiplier=" + multiplier +
+        ", decorrelatedJitter=" + decorrelatedJitter +
+        '}';
+  }
+
+  public static final class Builder {
+    private int maxAttempts = 3;
+    private Duration maxDuration;
+    private Duration initialDelay = Duration.ofMillis(100);
+    private Duration maxDelay = Duration.ofSeconds(10);
+    private double multiplier = 2.0;
+    private boolean decorrelatedJitter;
+    private Predicate<RuntimeException> retryOn = e -> true;
+    private int historyLimit = 8;
+
+    private Builder() {
+    }
+
+    public Builder maxAttempts(int maxAttempts) {
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("A retry policy needs at least one attempt");
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    public Builder maxDuration(Duration maxDuration) {
+      this.maxDuration = requireNonNegative(maxDuration);
+      return this;
+    }
+
+    public Builder initialDelay(Duration initialDelay) {
+      this.initialDelay = requireNonNegative(initialDelay);
+      return this;
+    }
+
+    public Builder maxDelay(Duration maxDelay) {
+      this.maxDelay = requireNonNegative(maxDelay);
+      return this;
+    }
+
+    public Builder multiplier(double multiplier) {
+      if (!(multiplier >= 1.0)) {
+        throw new IllegalArgumentException("Backoff multiplier must be at least 1");
+      }
+      this.multiplier = multiplier;
+      return this;
+    }
+
+    public Builder decorrelatedJitter() {
+      this.decorrelatedJitter = true;
+      return this;
+    }
+
+    @SafeVarargs
+    public final Builder retryOn(Class<? extends Exception>... exceptionTypes) {
+      Class<? extends Exception>[] types = exceptionTypes.clone();
+      this.retryOn = e -> {
+        for (Class<? extends Exception> type : types) {
+          if (type.isInstance(e) || type.isInstance(e.getCause())) {
+            return true;
+          }
+        }
+        return false;
+      };
+      return this;
+    }
+
+    public Builder retryIf(Predicate<RuntimeException> retryOn) {
+      if (retryOn == null) {
+        throw new IllegalArgumentException("Retry predicate cannot be null");
+      }
+      this.retryOn = retryOn;
+      return this;
+    }
+
+    public Builder historyLimit(int historyLimit) {
+      if (historyLimit < 1) {
+        throw new IllegalArgumentException("Retry history must keep at least one attempt");
+      }
+      this.historyLimit = historyLimit;
+      return this;
+    }
+
+    public RetryPolicy build() {
+      if (maxDelay.compareTo(initialDelay) < 0) {
+        throw new IllegalArgumentException("Maximum delay cannot be shorter than the initial delay");
+      }
+      return new RetryPolicy(this);
+    }
+
+    private static Duration requireNonNegative(Duration duration) {
+      if (duration == null || duration.isNegative()) {
+        throw new IllegalArgumentException("Duration cannot be null or negative");
+      }
+      return duration;
+    }
+  }
+}
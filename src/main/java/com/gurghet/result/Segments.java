@@ -0,0 +1,47 @@
+package com.gurghet.result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class Segments<E> {
+  private final List<ArrayList<E>> segments = new ArrayList<>(1);
+  private ArrayList<E> tail;
+  private int size;
+
+  void add(E element) {
+    if (tail == null) {
+      tail = new ArrayList<>();
+      segments.add(tail);
+    }
+    tail.add(element);
+    size++;
+  }
+
+  Segments<E> merge(Segments<E> other) {
+    if (other.size == 0) {
+      return this;
+    }
+    if (size == 0) {
+      return other;
+    }
+    segments.addAll(other.segments);
+    tail = other.tail;
+    size += other.size;
+    return this;
+  }
+
+  int size() {
+    return size;
+  }
+
+  List<E> toList() {
+    if (segments.size() == 1) {
+      return segments.get(0);
+    }
+    List<E> joined = new ArrayList<>(size);
+    for (List<E> segment : segments) {
+      joined.addAll(segment);
+    }
+    return joined;
+  }
+}
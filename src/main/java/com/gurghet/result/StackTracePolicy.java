@@ -0,0 +1,68 @@
+package com.gurghet.result;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class StackTracePolicy {
+  public static final StackTracePolicy FULL = new StackTracePolicy(1);
+  public static final StackTracePolicy STACKLESS = new StackTracePolicy(0);
+
+  private static volatile StackTracePolicy global = FULL;
+
+  private final int oneIn;
+
+  private StackTracePolicy(int oneIn) {
+    this.oneIn = oneIn;
+  }
+
+  public static StackTracePolicy sampled(int oneIn) {
+    if (oneIn < 1) {
+      throw new IllegalArgumentException("Sampling rate must be at least 1");
+    }
+    return oneIn == 1 ? FULL : new StackTracePolicy(oneIn);
+  }
+
+  public static StackTracePolicy global() {
+    return global;
+  }
+
+  public static void setGlobal(StackTracePolicy policy) {
+    if (policy == null) {
+      throw new IllegalArgumentException("Stack trace policy cannot be null");
+    }
+    global = policy;
+  }
+
+  public boolean captureStackTrace() {
+    if (oneIn <= 1) {
+      return oneIn == 1;
+    }
+    return ThreadLocalRandom.current().nextInt(oneIn) == 0;
+  }
+
+  public RuntimeException newException(String message, Throwable cause) {
+    if (captureStackTrace()) {
+      return new RuntimeException(message, cause);
+    } else {
+      return new StacklessException(message, cause);
+    }
+  }
+
+  RuntimeException orSentinel(StacklessException sentinel) {
+    if (captureStackTrace()) {
+      return new RuntimeException(sentinel.getMessage());
+    } else {
+      return sentinel;
+    }
+  }
+
+  @Override
+  public String toString() {
+    if (oneIn == 1) {
+      return "StackTracePolicy{FULL}";
+    } else if (oneIn == 0) {
+      return "StackTracePolicy{STACKLESS}";
+    } else {
+      return "StackTracePolicy{sampled=1/" + oneIn + '}';
+    }
+  }
+}
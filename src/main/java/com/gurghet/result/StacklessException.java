@@ -0,0 +1,18 @@
+package com.gurghet.result;
+
+public class StacklessException extends RuntimeException {
+  public static final StacklessException OPTIONAL_NOT_PRESENT =
+      new StacklessException("Optional is not present", null, false);
+
+  public StacklessException(String message) {
+    this(message, null, true);
+  }
+
+  public StacklessException(String message, Throwable cause) {
+    this(message, cause, true);
+  }
+
+  protected StacklessException(String message, Throwable cause, boolean enableSuppression) {
+    super(message, cause, enableSuppression, false);
+  }
+}
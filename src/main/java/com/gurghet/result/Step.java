@@ -0,0 +1,64 @@
+package com.gurghet.result;
+
+import java.util.Objects;
+
+public final class Step<S, T> {
+  private final S state;
+  private final T value;
+  private final boolean done;
+
+  private Step(S state, T value, boolean done) {
+    this.state = state;
+    this.value = value;
+    this.done = done;
+  }
+
+  public static <S, T> Step<S, T> more(S state) {
+    return new Step<>(state, null, false);
+  }
+
+  public static <S, T> Step<S, T> done(T value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Step cannot hold a null value");
+    }
+    return new Step<>(null, value, true);
+  }
+
+  public boolean isDone() {
+    return done;
+  }
+
+  public S getState() {
+    if (done) {
+      throw new IllegalStateException("Step is done and holds no state");
+    }
+    return state;
+  }
+
+  public T getValue() {
+    if (!done) {
+      throw new IllegalStateException("Step is not done and holds no value");
+    }
+    return value;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    Step<?, ?> step = (Step<?, ?>) o;
+    return done == step.done && Objects.equals(state, step.state) && Objects.equals(value, step.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(state, value, done);
+  }
+
+  @Override
+  public String toString() {
+    return done
+        ? "Step.done{" + "value=" + value + '}'
+        : "Step.more{" + "state=" + state + '}';
+  }
+}
@@ -3,6 +3,19 @@ package com.gurghet.result;
 import java.util.Objects;
 
 public class Success<T> extends Result<T> {
+  private static final Success<Void> VOID = new Success<>(null, true);
+  private static final Success<Boolean> TRUE = new Success<>(Boolean.TRUE);
+  private static final Success<Boolean> FALSE = new Success<>(Boolean.FALSE);
+  private static final int SMALL_INTEGER_LOW = -128;
+  private static final int SMALL_INTEGER_HIGH = 127;
+  private static final Success<?>[] SMALL_INTEGERS = new Success<?>[SMALL_INTEGER_HIGH - SMALL_INTEGER_LOW + 1];
+
+  static {
+    for (int i = 0; i < SMALL_INTEGERS.length; i++) {
+      SMALL_INTEGERS[i] = new Success<>(Integer.valueOf(i + SMALL_INTEGER_LOW));
+    }
+  }
+
   private final T value;
   private final boolean isVoid;
 
@@ -34,8 +47,37 @@ public class Success<T> extends Result<T> {
     }
   }
 
+  public T value() {
+    return getValue();
+  }
+
   public static <T> Success<T> of(T value) {
-    return new Success<>(value);
+    Success<T> canonical = canonical(value);
+    return canonical != null ? canonical : new Success<>(value);
+  }
+
+  static Success<Void> voidInstance() {
+    return VOID;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Success<T> canonical(T value) {
+    if (value == Boolean.TRUE) {
+      return (Success<T>) TRUE;
+    }
+    if (value == Boolean.FALSE) {
+      return (Success<T>) FALSE;
+    }
+    if (value instanceof Integer) {
+      int i = (Integer) value;
+      if (i >= SMALL_INTEGER_LOW && i <= SMALL_INTEGER_HIGH) {
+        Success<T> cached = (Success<T>) SMALL_INTEGERS[i - SMALL_INTEGER_LOW];
+        if (cached.value == value) {
+          return cached;
+        }
+      }
+    }
+    return null;
   }
 
   @Override
@@ -48,7 +90,7 @@ public class Success<T> extends Result<T> {
 
   @Override
   public int hashCode() {
-    return Objects.hash(value, isVoid);
+    return 31 * (31 + Objects.hashCode(value)) + Boolean.hashCode(isVoid);
   }
 
   @Override
@@ -0,0 +1,228 @@
+package com.gurghet.result;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public final class TypedResult<T, E> {
+  private final T value;
+  private final E error;
+
+  private TypedResult(T value, E error) {
+    this.value = value;
+    this.error = error;
+  }
+
+  public static <T, E> TypedResult<T, E> success(T value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Success cannot hold a null value");
+    }
+    return new TypedResult<>(value, null);
+  }
+
+  public static <T, E> TypedResult<T, E> failure(E error) {
+    if (error == null) {
+      throw new IllegalArgumentException("Failure cannot hold a null error");
+    }
+    return new TypedResult<>(null, error);
+  }
+
+  public static <T, E extends Exception> TypedResult<T, E> of(CheckedSupplier<T> checkedThunk, Class<E> errorType) {
+    if (checkedThunk == null) {
+      throw new IllegalArgumentException("Result cannot hold a null thunk");
+    }
+    if (errorType == null) {
+      throw new IllegalArgumentException("Error type cannot be null");
+    }
+    T value;
+    try {
+      value = checkedThunk.get();
+    } catch (Exception e) {
+      if (errorType.isInstance(e)) {
+        return failure(errorType.cast(e));
+      }
+      if (e instanceof RuntimeException) {
+        throw (RuntimeException) e;
+      }
+      throw StackTracePolicy.global().newException("Thrown checked exception, wrapping in RuntimeException", e);
+    }
+    // A null value is never a typed error, whatever errorType is: there is no
+    // untyped channel to put it in, so success throws IllegalArgumentException.
+    // Result.ofSneakyThrows(() -> null) returns a Failure instead.
+    return success(value);
+  }
+
+  public static <T> TypedResult<T, RuntimeException> fromResult(Result<T> result) {
+    return fromResult(result, Function.identity());
+  }
+
+  public static <T, E> TypedResult<T, E> fromResult(Result<T> result, Function<RuntimeException, E> errorMapper) {
+    // The error channel holds only E, so any context frames on the Failure are
+    // dropped here and toResult cannot bring them back.
+    if (result.isFailure()) {
+      return failure(errorMapper.apply(((Failure<T>) result).getException()));
+    } else {
+      return success(result.unsafeGet());
+    }
+  }
+
+  public Result<T> toResult(Function<? super E, ? extends RuntimeException> toException) {
+    if (isFailure()) {
+      return Result.failure(toException.apply(error));
+    } else {
+      return Result.success(value);
+    }
+  }
+
+  public boolean isFailure() {
+    return error != null;
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+
+  public E getError() {
+    if (isSuccess()) {
+      throw new IllegalStateException("Success holds no error");
+    }
+    return error;
+  }
+
+  public T unsafeGet() throws RuntimeException {
+    if (isFailure()) {
+      if (error instanceof RuntimeException) {
+        throw (RuntimeException) error;
+      }
+      throw new IllegalStateException("Failure holds no value: " + error);
+    }
+    return value;
+  }
+
+  public T orElse(T other) {
+    return isFailure() ? other : value;
+  }
+
+  public T orElseGet(Function<? super E, ? extends T> fallback) {
+    return isFailure() ? fallback.apply(error) : value;
+  }
+
+  public T orElseThrow(Function<? super E, ? extends RuntimeException> toException) {
+    if (isFailure()) {
+      throw toException.apply(error);
+    }
+    return value;
+  }
+
+  public Optional<T> toOptional() {
+    return isFailure() ? Optional.empty() : Optional.of(value);
+  }
+
+  public <R> R fold(Function<? super T, ? extends R> onSuccess, Function<? super E, ? extends R> onFailure) {
+    return isFailure() ? onFailure.apply(error) : onSuccess.apply(value);
+  }
+
+  @SuppressWarnings("unchecked")
+  public <U> TypedResult<U, E> map(Function<T, U> mapper) {
+    if (isFailure()) {
+      return (TypedResult<U, E>) this;
+    }
+    return success(mapper.apply(value));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <U> TypedResult<U, E> flatMap(Function<T, TypedResult<U, E>> mapper) {
+    if (isFailure()) {
+      return (TypedResult<U, E>) this;
+    }
+    TypedResult<U, E> result = mapper.apply(value);
+    if (result == null) {
+      throw new NullPointerException("flatMap mapper returned null");
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <F> TypedResult<T, F> mapError(Function<E, F> mapper) {
+    if (isSuccess()) {
+      return (TypedResult<T, F>) this;
+    }
+    F mapped = mapper.apply(error);
+    return mapped == error ? (TypedResult<T, F>) this : failure(mapped);
+  }
+
+  public TypedResult<T, E> tap(Consumer<T> c) {
+    if (isSuccess()) {
+      c.accept(value);
+    }
+    return this;
+  }
+
+  public TypedResult<T, E> tapError(Consumer<E> c) {
+    if (isFailure()) {
+      c.accept(error);
+    }
+    return this;
+  }
+
+  public TypedResult<T, E> catchAll(Function<E, TypedResult<T, E>> handler) {
+    if (isFailure()) {
+      return handler.apply(error);
+    } else {
+      return this;
+    }
+  }
+
+  public TypedResult<T, E> catchAll(Supplier<TypedResult<T, E>> handler) {
+    if (isFailure()) {
+      return handler.get();
+    } else {
+      return this;
+    }
+  }
+
+  public <X extends E> TypedResult<T, E> catchSome(Class<X> errorType, Function<X, TypedResult<T, E>> handler) {
+    if (isFailure() && errorType.isInstance(error)) {
+      return handler.apply(errorType.cast(error));
+    } else {
+      return this;
+    }
+  }
+
+  public TypedResult<T, E> catchIf(Predicate<? super E> predicate, Function<E, TypedResult<T, E>> handler) {
+    if (isFailure() && predicate.test(error)) {
+      return handler.apply(error);
+    } else {
+      return this;
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    TypedResult<?, ?> that = (TypedResult<?, ?>) o;
+    return Objects.equals(value, that.value) && Objects.equals(error, that.error);
+  }
+
+  @Override
+  public int hashCode() {
+    return isFailure() ? 31 * error.hashCode() + 1 : value.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    if (isFailure()) {
+      return "TypedResult.Failure{" +
+          "error=" + error +
+          '}';
+    } else {
+      return "TypedResult.Success{" +
+          "value=" + value +
+          '}';
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.gurghet.result;
+
+import java.nio.ByteBuffer;
+
+public interface ValueCodec<T> {
+
+  void encode(T value, ByteBuffer out);
+
+  T decode(ByteBuffer in);
+
+  static ValueCodec<String> utf8() {
+    return ValueCodecs.Utf8Codec.INSTANCE;
+  }
+
+  static ValueCodec<Integer> int32() {
+    return ValueCodecs.Int32Codec.INSTANCE;
+  }
+
+  static ValueCodec<Long> int64() {
+    return ValueCodecs.Int64Codec.INSTANCE;
+  }
+
+  static ValueCodec<byte[]> bytes() {
+    return ValueCodecs.BytesCodec.INSTANCE;
+  }
+}
@@ -0,0 +1,116 @@
+package com.gurghet.result;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+final class ValueCodecs {
+
+  private static final int NULL_LENGTH = -1;
+
+  private ValueCodecs() {
+  }
+
+  static void putString(ByteBuffer out, String value) {
+    if (value == null) {
+      out.putInt(NULL_LENGTH);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.putInt(bytes.length).put(bytes);
+  }
+
+  static String getString(ByteBuffer in) {
+    int length = in.getInt();
+    if (length == NULL_LENGTH) {
+      return null;
+    }
+    checkLength(in, length);
+    if (in.hasArray()) {
+      String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+      in.position(in.position() + length);
+      return value;
+    }
+    ByteBuffer slice = in.slice();
+    slice.limit(length);
+    in.position(in.position() + length);
+    return StandardCharsets.UTF_8.decode(slice).toString();
+  }
+
+  static void checkLength(ByteBuffer in, int length) {
+    if (length < 0 || length > in.remaining()) {
+      throw new IllegalArgumentException("Corrupt length " + length + " with " + in.remaining() + " bytes remaining");
+    }
+  }
+
+  static final class Utf8Codec implements ValueCodec<String> {
+    static final Utf8Codec INSTANCE = new Utf8Codec();
+
+    private Utf8Codec() {
+    }
+
+    @Override
+    public void encode(String value, ByteBuffer out) {
+      putString(out, value);
+    }
+
+    @Override
+    public String decode(ByteBuffer in) {
+      return getString(in);
+    }
+  }
+
+  static final class Int32Codec implements ValueCodec<Integer> {
+    static final Int32Codec INSTANCE = new Int32Codec();
+
+    private Int32Codec() {
+    }
+
+    @Override
+    public void encode(Integer value, ByteBuffer out) {
+      out.putInt(value);
+    }
+
+    @Override
+    public Integer decode(ByteBuffer in) {
+      return in.getInt();
+    }
+  }
+
+  static final class Int64Codec implements ValueCodec<Long> {
+    static final Int64Codec INSTANCE = new Int64Codec();
+
+    private Int64Codec() {
+    }
+
+    @Override
+    public void encode(Long value, ByteBuffer out) {
+      out.putLong(value);
+    }
+
+    @Override
+    public Long decode(ByteBuffer in) {
+      return in.getLong();
+    }
+  }
+
+  static final class BytesCodec implements ValueCodec<byte[]> {
+    static final BytesCodec INSTANCE = new BytesCodec();
+
+    private BytesCodec() {
+    }
+
+    @Override
+    public void encode(byte[] value, ByteBuffer out) {
+      out.putInt(value.length).put(value);
+    }
+
+    @Override
+    public byte[] decode(ByteBuffer in) {
+      int length = in.getInt();
+      checkLength(in, length);
+      byte[] value = new byte[length];
+      in.get(value);
+      return value;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.gurghet;
+
+import com.gurghet.result.AsyncResult;
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncResultTest {
+
+    @Property(tries = 1)
+    void testOfAsyncRunsOffCallerThread() {
+        Thread caller = Thread.currentThread();
+        Result<Boolean> result = Result.ofAsync(() -> Thread.currentThread() != caller).join();
+        assertEquals(Success.of(true), result);
+    }
+
+    @Property(tries = 1)
+    void testCombinatorsDoNotBlock() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncResult<Integer> pending = Result.ofAsync(() -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 20;
+        });
+        AsyncResult<Integer> chained = pending.map(x -> x + 1).flatMap(x -> Success.of(x * 2));
+        assertFalse(chained.isDone());
+        release.countDown();
+        assertEquals(Success.of(42), chained.join());
+    }
+
+    @Property(tries = 1)
+    void testCheckedExceptionBecomesFailure() {
+        Result<Integer> result = Result.<Integer>ofAsync(() -> { throw new IOException("io"); }).join();
+        assertTrue(result.isFailure());
+        assertEquals(IOException.class, ((Failure<?>) result).getException().getCause().getClass());
+    }
+
+    @Property(tries = 1)
+    void testExceptionalFutureCompletesWithFailure() {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        future.completeExceptionally(new IllegalStateException("boom"));
+        Result<Integer> result = AsyncResult.fromFuture(future)
+                .catchSome(IllegalStateException.class, e -> Success.of(0))
+                .join();
+        assertEquals(Success.of(0), result);
+    }
+
+    @Property(tries = 1)
+    void testVoidFutureCompletesWithSuccess() {
+        Result<Void> result = AsyncResult.fromFuture(CompletableFuture.runAsync(() -> { })).join();
+        assertTrue(result.isSuccess());
+        assertSame(Result.of(() -> { }), result);
+    }
+
+    @Property(tries = 1)
+    void testFlatMapAsync() {
+        Result<Integer> result = Result.ofAsync(() -> 20)
+                .flatMapAsync(x -> Result.ofAsync(() -> x + 22))
+                .join();
+        assertEquals(Success.of(42), result);
+    }
+}
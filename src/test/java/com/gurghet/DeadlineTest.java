@@ -0,0 +1,151 @@
+package com.gurghet;
+
+import com.gurghet.result.AsyncResult;
+import com.gurghet.result.CheckedSupplier;
+import com.gurghet.result.DeadlineExceededException;
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineTest {
+
+    private static final Duration SHORT = Duration.ofMillis(50);
+    private static final Duration LONG = Duration.ofSeconds(10);
+
+    private static DeadlineExceededException deadlineExceeded(Result<?> result) {
+        RuntimeException exception = ((Failure<?>) result).getException();
+        assertInstanceOf(DeadlineExceededException.class, exception);
+        return (DeadlineExceededException) exception;
+    }
+
+    @Property(tries = 1)
+    void testFastThunkSucceeds() {
+        assertEquals(Success.of(42), Result.ofWithin(LONG, () -> 42));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    private static CheckedSupplier<Integer> hanging(CountDownLatch started, CountDownLatch interrupted) {
+        return () -> {
+            started.countDown();
+            try {
+                Thread.sleep(LONG.toMillis());
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return 1;
+        };
+    }
+
+    @Property(tries = 1)
+    void testHangingThunkIsInterruptedAndTimesOut() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Result<Integer> result = Result.ofWithin(SHORT, hanging(started, interrupted));
+
+        DeadlineExceededException exception = deadlineExceeded(result);
+        assertEquals(SHORT, exception.getTimeout());
+        assertEquals(0, exception.getStackTrace().length);
+        // A worker that had not begun by the deadline never runs the thunk at all.
+        if (started.await(5, TimeUnit.SECONDS)) {
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        }
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Property(tries = 1)
+    void testCompletionJustBeforeDeadlineKeepsResultAndInterruptFlag() {
+        for (int i = 0; i < 200; i++) {
+            Result<Integer> result = Result.ofWithin(Duration.ofNanos(1_000), () -> 7);
+            assertTrue(result.isSuccess() || deadlineExceeded(result) != null);
+            assertFalse(Thread.interrupted(), "stray interrupt after iteration " + i);
+        }
+    }
+
+    @Property(tries = 1)
+    void testNonInterruptibleThunkStillReleasesCaller() {
+        CountDownLatch release = new CountDownLatch(1);
+        Result<Integer> result = Result.ofWithin(SHORT, () -> {
+            while (true) {
+                try {
+                    release.await();
+                    return 1;
+                } catch (InterruptedException ignored) {
+                    // keep waiting
+                }
+            }
+        });
+        release.countDown();
+        deadlineExceeded(result);
+    }
+
+    @Property(tries = 1)
+    void testCallerInterruptIsPreserved() {
+        Thread.currentThread().interrupt();
+        Result<Integer> result = Result.ofWithin(LONG, () -> 42);
+        assertTrue(Thread.interrupted());
+        assertEquals(Success.of(42), result);
+    }
+
+    @Property(tries = 1)
+    void testNonPositiveTimeoutDoesNotRunThunk() {
+        AtomicInteger calls = new AtomicInteger();
+        deadlineExceeded(Result.ofWithin(Duration.ZERO, calls::incrementAndGet));
+        deadlineExceeded(Result.ofWithinAsync(Duration.ofMillis(-1), calls::incrementAndGet).join());
+        assertEquals(0, calls.get());
+    }
+
+    @Property(tries = 1)
+    void testThunkFailureWithinDeadlineIsKept() {
+        IllegalStateException error = new IllegalStateException("boom");
+        Result<Integer> result = Result.ofWithin(LONG, () -> {
+            throw error;
+        });
+        assertSame(error, ((Failure<?>) result).getException());
+    }
+
+    @Property(tries = 1)
+    void testAsyncTimeoutInterruptsRunningThunk() {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        // Running the task inline means the thunk has started before the call returns.
+        AsyncResult<Integer> pending = Result.ofWithinAsync(SHORT, hanging(started, interrupted), Runnable::run);
+        deadlineExceeded(pending.join());
+        if (started.getCount() == 0) {
+            assertEquals(0, interrupted.getCount());
+        }
+        assertFalse(Thread.interrupted());
+    }
+
+    @Property(tries = 1)
+    void testManyConcurrentAsyncDeadlines() {
+        List<AsyncResult<Integer>> pending = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int n = i;
+            pending.add(Result.ofWithinAsync(n % 2 == 0 ? SHORT : LONG, () -> {
+                if (n % 2 == 0) {
+                    Thread.sleep(LONG.toMillis());
+                }
+                return n;
+            }));
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            Result<Integer> result = pending.get(i).join();
+            if (i % 2 == 0) {
+                deadlineExceeded(result);
+            } else {
+                assertEquals(Success.of(i), result);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.gurghet;
+
+import com.gurghet.result.AllFailedException;
+import com.gurghet.result.CheckedSupplier;
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FanOutTest {
+
+    private static CheckedSupplier<Integer> after(long millis, int value) {
+        return () -> {
+            Thread.sleep(millis);
+            return value;
+        };
+    }
+
+    private static <T> CheckedSupplier<T> slow(CountDownLatch started, CountDownLatch interrupted, T value) {
+        return () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return value;
+        };
+    }
+
+    private static CheckedSupplier<Integer> meet(CountDownLatch started, int value) {
+        return () -> {
+            started.countDown();
+            if (!started.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("the other task never started");
+            }
+            return value;
+        };
+    }
+
+    @Property(tries = 1)
+    void testParZipRunsTasksConcurrently() {
+        CountDownLatch started = new CountDownLatch(2);
+        Result<Integer> result = Result.parZip(meet(started, 1), meet(started, 2), Integer::sum);
+        assertEquals(Success.of(3), result);
+    }
+
+    @Property(tries = 1)
+    void testNaryParZipKeepsOrder() {
+        Result<List<Integer>> result = Result.parZip(List.of(after(60, 1), after(10, 2), after(30, 3)));
+        assertEquals(Success.of(List.of(1, 2, 3)), result);
+        assertEquals(Success.of(List.of()), Result.parZip(List.<CheckedSupplier<Integer>>of()));
+    }
+
+    @Property(tries = 1)
+    void testParZipFailsFastAndCancelsTheRest() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        IllegalStateException error = new IllegalStateException("lookup failed");
+        Result<Integer> result = Result.parZip(slow(started, interrupted, 1), () -> {
+            Thread.sleep(20);
+            throw error;
+        }, Integer::sum);
+        assertSame(error, ((Failure<?>) result).getException());
+        // A task cancelled before it started never runs its supplier at all.
+        if (started.await(5, TimeUnit.SECONDS)) {
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Property(tries = 1)
+    void testSupplierErrorIsRethrownToCaller() {
+        AssertionError fatal = new AssertionError("fatal");
+        assertSame(fatal, assertThrows(AssertionError.class,
+                () -> Result.parZip(List.<CheckedSupplier<Integer>>of(() -> 1, () -> { throw fatal; }))));
+        assertSame(fatal, assertThrows(AssertionError.class,
+                () -> Result.race(List.<CheckedSupplier<Integer>>of(() -> { throw fatal; }))));
+    }
+
+    @Property(tries = 1)
+    void testCombinerFailureBecomesFailure() {
+        Result<Integer> result = Result.parZip(() -> 1, () -> 0, (a, b) -> a / b);
+        assertEquals(ArithmeticException.class, ((Failure<?>) result).getException().getClass());
+    }
+
+    @Property(tries = 1)
+    void testRaceFirstSuccessWinsAndCancelsLosers() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Result<String> result = Result.race(List.of(() -> {
+            throw new IOException("fast failure does not win");
+        }, () -> {
+            Thread.sleep(30);
+            return "winner";
+        }, slow(started, interrupted, "slow")));
+        assertEquals(Success.of("winner"), result);
+        // A task cancelled before it started never runs its supplier at all.
+        if (started.await(5, TimeUnit.SECONDS)) {
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Property(tries = 1)
+    void testRaceAggregatesAllFailuresCompactly() {
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalArgumentException second = new IllegalArgumentException("second");
+        Result<Integer> result = Result.race(List.of(() -> {
+            Thread.sleep(20);
+            throw first;
+        }, () -> {
+            throw second;
+        }));
+        AllFailedException exception = (AllFailedException) ((Failure<?>) result).getException();
+        assertEquals(List.of(first, second), exception.getFailures());
+        assertSame(first, exception.getCause());
+        assertEquals(0, exception.getStackTrace().length);
+        assertThrows(IllegalArgumentException.class, () -> Result.race(List.<CheckedSupplier<Integer>>of()));
+    }
+
+    @Property(tries = 1)
+    void testCustomExecutorAndRejection() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertEquals(Success.of(List.of(1, 2)), Result.parZip(List.of(() -> 1, () -> 2), executor));
+        } finally {
+            executor.shutdownNow();
+        }
+        Result<List<Integer>> rejected = Result.parZip(List.of(() -> 1), executor);
+        assertEquals(RejectedExecutionException.class, ((Failure<?>) rejected).getException().getClass());
+    }
+}
@@ -0,0 +1,62 @@
+package com.gurghet;
+
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultInstrumentation;
+import com.gurghet.result.ResultMetrics;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs in the instrumentation-wiring surefire execution only, with provider
+// discovery and the built-in metrics both switched on.
+class InstrumentationWiringTest {
+
+    public static final class Recording implements ResultInstrumentation {
+        static final Map<String, AtomicInteger> THUNKS = new ConcurrentHashMap<>();
+        static final AtomicInteger FAILURES = new AtomicInteger();
+        static final AtomicInteger RECOVERIES = new AtomicInteger();
+
+        @Override
+        public void onThunkCompleted(String callSite, long durationNanos, RuntimeException failure) {
+            THUNKS.computeIfAbsent(callSite, site -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public void onFailureCreated(RuntimeException exception) {
+            FAILURES.incrementAndGet();
+        }
+
+        @Override
+        public void onRecovered(RuntimeException exception) {
+            RECOVERIES.incrementAndGet();
+        }
+    }
+
+    @Property(tries = 1)
+    void testProvidersAndBuiltInMetricsAreWired() {
+        assertTrue(ResultMetrics.isEnabled());
+        int failuresBefore = Recording.FAILURES.get();
+        int recoveriesBefore = Recording.RECOVERIES.get();
+
+        assertEquals(Success.of(1), Result.of("wiring", () -> 1));
+        Result<Integer> recovered = Result.<Integer>of("wiring", () -> {
+            throw new IllegalStateException("down");
+        }).catchAll(e -> Success.of(0));
+        assertEquals(Success.of(0), recovered);
+
+        assertEquals(2, Recording.THUNKS.get("wiring").get());
+        assertEquals(failuresBefore + 1, Recording.FAILURES.get());
+        assertEquals(recoveriesBefore + 1, Recording.RECOVERIES.get());
+
+        ResultMetrics.CallSite site = ResultMetrics.global().callSite("wiring");
+        assertEquals(1, site.getSuccessCount());
+        assertEquals(1, site.getFailureCount());
+        assertEquals(1L, ResultMetrics.global().failureCounts().get(IllegalStateException.class));
+        assertEquals(1L, ResultMetrics.global().recoveryCounts().get(IllegalStateException.class));
+    }
+}
@@ -0,0 +1,97 @@
+package com.gurghet;
+
+import com.gurghet.result.LazyResult;
+import com.gurghet.result.Result;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyResultTest {
+
+    @Property(tries = 1)
+    void testDeferDoesNotRunUntilForced() {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer> lazy = Result.defer(calls::incrementAndGet).map(x -> x + 1);
+        assertEquals(0, calls.get());
+        assertFalse(lazy.isEvaluated());
+        assertEquals(Success.of(2), lazy.get());
+        assertTrue(lazy.isEvaluated());
+    }
+
+    @Property(tries = 1)
+    void testFusedChainRunsOnce() {
+        AtomicInteger thunkCalls = new AtomicInteger();
+        AtomicInteger stepCalls = new AtomicInteger();
+        LazyResult<Integer> root = Result.defer(() -> {
+            thunkCalls.incrementAndGet();
+            return 1;
+        });
+        LazyResult<Integer> chain = root
+                .map(x -> { stepCalls.incrementAndGet(); return x + 1; })
+                .flatMap(x -> { stepCalls.incrementAndGet(); return Success.of(x * 10); });
+        assertEquals(Success.of(20), chain.get());
+        assertEquals(Success.of(20), chain.get());
+        assertEquals(1, thunkCalls.get());
+        assertEquals(2, stepCalls.get());
+        assertTrue(root.isEvaluated());
+    }
+
+    @Property(tries = 1)
+    void testSharedIntermediateIsMemoized() {
+        AtomicInteger mapperCalls = new AtomicInteger();
+        LazyResult<Integer> shared = Result.defer(() -> 1)
+                .map(x -> { mapperCalls.incrementAndGet(); return x + 1; });
+        LazyResult<Integer> left = shared.map(x -> x * 10);
+        LazyResult<Integer> right = shared.map(x -> x * 100);
+        assertEquals(Success.of(20), left.get());
+        assertTrue(shared.isEvaluated());
+        assertEquals(Success.of(200), right.get());
+        assertEquals(1, mapperCalls.get());
+    }
+
+    @Property(tries = 1)
+    void testFailureRecovery() {
+        LazyResult<Integer> lazy = Result.<Integer>defer(() -> { throw new Exception("checked"); })
+                .map(x -> x + 1)
+                .catchSome(RuntimeException.class, e -> Success.of(0));
+        assertEquals(Success.of(0), lazy.get());
+    }
+
+    @Property(tries = 1)
+    void testConcurrentForcingEvaluatesOnce() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        LazyResult<Integer> lazy = Result.defer(() -> {
+            calls.incrementAndGet();
+            return 42;
+        }).map(x -> x + 0);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger mismatches = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (!Success.of(42).equals(lazy.get())) {
+                    mismatches.incrementAndGet();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(0, mismatches.get());
+    }
+}
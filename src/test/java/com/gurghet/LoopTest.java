@@ -0,0 +1,77 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.Step;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.IntRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoopTest {
+
+    @Property(tries = 1)
+    void testMillionIterationsRunInConstantStack() {
+        Result<Long> result = Result.loop(0L, i -> i == 1_000_000L
+                ? Success.of(Step.done(i))
+                : Success.of(Step.more(i + 1)));
+        assertEquals(Success.of(1_000_000L), result);
+    }
+
+    @Property
+    void testLoopAgreesWithRecursiveFlatMap(@ForAll @IntRange(max = 200) int n) {
+        Result<Integer> looped = Result.loop(new int[]{0, 0}, s -> s[0] == n
+                ? Success.of(Step.done(s[1]))
+                : Success.of(Step.more(new int[]{s[0] + 1, s[1] + s[0]})));
+        assertEquals(sumBelow(0, 0, n), looped);
+    }
+
+    private static Result<Integer> sumBelow(int i, int acc, int n) {
+        return i == n ? Success.of(acc) : Success.of(acc + i).flatMap(a -> sumBelow(i + 1, a, n));
+    }
+
+    @Property(tries = 1)
+    void testPaginationStopsAtFirstFailure() {
+        RuntimeException error = new IllegalStateException("page 3 unavailable");
+        List<Integer> seen = new ArrayList<>();
+        Result<List<Integer>> result = Result.loop(0, page -> {
+            if (page == 3) {
+                return Failure.of(error);
+            }
+            seen.add(page);
+            return Success.of(Step.more(page + 1));
+        });
+        assertSame(error, ((Failure<?>) result).getException());
+        assertEquals(List.of(0, 1, 2), seen);
+    }
+
+    @Property(tries = 1)
+    void testThrowingStepBecomesFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<Integer> result = Result.loop(1, i -> {
+            calls.incrementAndGet();
+            return Success.of(Step.more(10 / (i - 1)));
+        });
+        assertEquals(ArithmeticException.class, ((Failure<?>) result).getException().getClass());
+        assertEquals(1, calls.get());
+    }
+
+    @Property(tries = 1)
+    void testNullStepResultIsFailure() {
+        Result<Integer> result = Result.loop(0, i -> null);
+        assertEquals(NullPointerException.class, ((Failure<?>) result).getException().getClass());
+    }
+
+    @Property(tries = 1)
+    void testStepAccessorsGuardTheirShape() {
+        assertThrows(IllegalStateException.class, () -> Step.more(1).getValue());
+        assertThrows(IllegalStateException.class, () -> Step.done(1).getState());
+        assertThrows(IllegalArgumentException.class, () -> Step.done(null));
+        assertThrows(IllegalArgumentException.class, () -> Result.loop(0, null));
+    }
+}
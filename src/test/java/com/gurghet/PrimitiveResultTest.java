@@ -0,0 +1,69 @@
+package com.gurghet;
+
+import com.gurghet.result.DoubleResult;
+import com.gurghet.result.IntResult;
+import com.gurghet.result.LongResult;
+import com.gurghet.result.Result;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveResultTest {
+
+    @Property
+    void testIntRoundTrip(@ForAll int value) {
+        IntResult result = IntResult.success(value);
+        assertEquals(Success.of(value), result.toResult());
+        assertEquals(result, IntResult.fromResult(result.toResult()));
+    }
+
+    @Property
+    void testMapMatchesBoxed(@ForAll int value) {
+        IntResult primitive = IntResult.of(() -> value).map(x -> x * 2);
+        Result<Integer> boxed = Result.of(() -> value).map(x -> x * 2);
+        assertEquals(boxed, primitive.toResult());
+    }
+
+    @Property(tries = 1)
+    void testFailurePropagation() {
+        RuntimeException exception = new IllegalStateException("error");
+        IntResult failure = IntResult.failure(exception);
+        assertSame(failure, failure.map(x -> x + 1));
+        LongResult widened = failure.mapToLong(x -> x);
+        assertTrue(widened.isFailure());
+        assertSame(exception, widened.getException());
+        assertEquals(7, failure.orElse(7));
+        assertEquals(OptionalInt.empty(), failure.toOptional());
+    }
+
+    @Property(tries = 1)
+    void testMapperExceptionBecomesFailure() {
+        IntResult result = IntResult.success(1).map(x -> x / 0);
+        assertTrue(result.isFailure());
+        assertEquals(ArithmeticException.class, result.getException().getClass());
+    }
+
+    @Property(tries = 1)
+    void testFlatMapToLong() {
+        LongResult result = IntResult.success(21).flatMapToLong(x -> LongResult.success(x * 2L));
+        assertEquals(42L, result.unsafeGet());
+    }
+
+    @Property(tries = 1)
+    void testFromBoxedResult() {
+        DoubleResult price = Result.success(250L).mapToDouble(cents -> cents / 100.0);
+        assertEquals(2.5, price.unsafeGet());
+        IntResult failed = Result.<String>failure(new RuntimeException("error")).mapToInt(String::length);
+        assertTrue(failed.isFailure());
+    }
+
+    @Property(tries = 1)
+    void testCatchSome() {
+        IntResult recovered = IntResult.failure(new IllegalArgumentException("error"))
+                .catchSome(IllegalArgumentException.class, e -> IntResult.success(0));
+        assertEquals(IntResult.success(0), recovered);
+    }
+}
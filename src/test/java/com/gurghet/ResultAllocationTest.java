@@ -0,0 +1,180 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.StacklessException;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ResultAllocationTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 20_000;
+
+    // Budgets assume no escape analysis (interpreter/C1), so they are upper bounds.
+    // A boxed Integer is 16 bytes and a Success 24 bytes with compressed oops; the
+    // slack covers JVMs without compressed class pointers.
+    private static final long BOXED_SUCCESS_BUDGET = 64;
+    private static final long OPTIONAL_BUDGET = 32;
+    private static final long ZERO_BUDGET = 0;
+    private static final long MEASUREMENT_SLACK = 1;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private static final Integer SEED = 1_000_000;
+    private static final Result<Integer> SUCCESS = Success.of(SEED);
+    private static final Result<Integer> FAILURE = Failure.of(new StacklessException("expected"));
+    private static final Result<Integer> FALLBACK = Success.of(7);
+    private static final Function<Integer, Integer> INCREMENT = x -> x + 1;
+    private static final Function<Integer, Result<Integer>> DOUBLE = x -> Success.of(x * 2);
+    private static final Function<StacklessException, Result<Integer>> RECOVER = e -> FALLBACK;
+
+    private static volatile Object sink;
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (threads.isThreadAllocatedMemorySupported()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+                return threads;
+            }
+        }
+        return null;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static double bytesPerOp(Supplier<?> op) {
+        assumeTrue(THREADS != null, "per-thread allocation accounting is not available");
+        for (int i = 0; i < WARMUP; i++) {
+            sink = op.get();
+        }
+        long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = op.get();
+        }
+        long after = allocatedBytes();
+        return (double) (after - before) / ITERATIONS;
+    }
+
+    private static void assertWithinBudget(String name, long budget, Supplier<?> op) {
+        double measured = bytesPerOp(op);
+        assertTrue(measured <= budget + MEASUREMENT_SLACK,
+                name + " allocated " + measured + " B/op, budget is " + budget + " B/op");
+    }
+
+    @Property(tries = 1)
+    void testSuccessHotPaths() {
+        assertWithinBudget("isSuccess", ZERO_BUDGET, () -> SUCCESS.isSuccess() ? SUCCESS : null);
+        assertWithinBudget("orElse", ZERO_BUDGET, () -> SUCCESS.orElse(SEED));
+        assertWithinBudget("map", BOXED_SUCCESS_BUDGET, () -> SUCCESS.map(INCREMENT));
+        assertWithinBudget("flatMap", BOXED_SUCCESS_BUDGET, () -> SUCCESS.flatMap(DOUBLE));
+        assertWithinBudget("mapError", ZERO_BUDGET, () -> SUCCESS.mapError(e -> e));
+        assertWithinBudget("catchAll", ZERO_BUDGET, () -> SUCCESS.catchAll(FALLBACK));
+        assertWithinBudget("catchSome", ZERO_BUDGET, () -> SUCCESS.catchSome(StacklessException.class, RECOVER));
+        assertWithinBudget("tap", ZERO_BUDGET, () -> SUCCESS.tap(x -> { }));
+        assertWithinBudget("tapError", ZERO_BUDGET, () -> SUCCESS.tapError(e -> { }));
+        assertWithinBudget("orElseGet", ZERO_BUDGET, () -> SUCCESS.orElseGet(() -> SEED));
+        assertWithinBudget("toOptional", OPTIONAL_BUDGET, SUCCESS::toOptional);
+        assertWithinBudget("as", BOXED_SUCCESS_BUDGET, () -> SUCCESS.as(SEED));
+    }
+
+    @Property(tries = 1)
+    void testFailurePropagation() {
+        assertWithinBudget("isFailure", ZERO_BUDGET, () -> FAILURE.isFailure() ? FAILURE : null);
+        assertWithinBudget("orElse", ZERO_BUDGET, () -> FAILURE.orElse(SEED));
+        assertWithinBudget("map", ZERO_BUDGET, () -> FAILURE.map(INCREMENT));
+        assertWithinBudget("flatMap", ZERO_BUDGET, () -> FAILURE.flatMap(DOUBLE));
+        assertWithinBudget("mapError identity", ZERO_BUDGET, () -> FAILURE.mapError(e -> e));
+        assertWithinBudget("catchAll", ZERO_BUDGET, () -> FAILURE.catchAll(FALLBACK));
+        assertWithinBudget("catchSome", ZERO_BUDGET, () -> FAILURE.catchSome(StacklessException.class, RECOVER));
+        assertWithinBudget("catchSome unmatched", ZERO_BUDGET, () -> FAILURE.catchSome(IllegalStateException.class, e -> FALLBACK));
+        assertWithinBudget("tap", ZERO_BUDGET, () -> FAILURE.tap(x -> { }));
+        assertWithinBudget("tapError", ZERO_BUDGET, () -> FAILURE.tapError(e -> { }));
+        assertWithinBudget("orElseGet", ZERO_BUDGET, () -> FAILURE.orElseGet(() -> SEED));
+        assertWithinBudget("toOptional", ZERO_BUDGET, FAILURE::toOptional);
+        assertWithinBudget("as", ZERO_BUDGET, () -> FAILURE.as(SEED));
+    }
+
+    enum Op {
+        MAP(BOXED_SUCCESS_BUDGET) {
+            Result<Integer> apply(Result<Integer> r) {
+                return r.map(INCREMENT);
+            }
+        },
+        FLAT_MAP(BOXED_SUCCESS_BUDGET) {
+            Result<Integer> apply(Result<Integer> r) {
+                return r.flatMap(DOUBLE);
+            }
+        },
+        MAP_ERROR(ZERO_BUDGET) {
+            Result<Integer> apply(Result<Integer> r) {
+                return r.mapError(e -> e);
+            }
+        },
+        CATCH_ALL(ZERO_BUDGET) {
+            Result<Integer> apply(Result<Integer> r) {
+                return r.catchAll(FALLBACK);
+            }
+        },
+        CATCH_SOME(ZERO_BUDGET) {
+            Result<Integer> apply(Result<Integer> r) {
+                return r.catchSome(StacklessException.class, RECOVER);
+            }
+        },
+        TAP(ZERO_BUDGET) {
+            Result<Integer> apply(Result<Integer> r) {
+                return r.tap(x -> { });
+            }
+        },
+        TAP_ERROR(ZERO_BUDGET) {
+            Result<Integer> apply(Result<Integer> r) {
+                return r.tapError(e -> { });
+            }
+        },
+        AS(BOXED_SUCCESS_BUDGET) {
+            Result<Integer> apply(Result<Integer> r) {
+                return r.as(SEED);
+            }
+        },
+        FAIL(ZERO_BUDGET) {
+            Result<Integer> apply(Result<Integer> r) {
+                return r.flatMap(x -> FAILURE);
+            }
+        };
+
+        final long budget;
+
+        Op(long budget) {
+            this.budget = budget;
+        }
+
+        abstract Result<Integer> apply(Result<Integer> r);
+    }
+
+    @Property(tries = 25)
+    void testMixedChainsStayWithinSummedBudget(@ForAll boolean startWithFailure,
+                                               @ForAll @net.jqwik.api.constraints.Size(max = 12) List<Op> ops) {
+        Result<Integer> start = startWithFailure ? FAILURE : SUCCESS;
+        long budget = ops.stream().mapToLong(op -> op.budget).sum();
+        Op[] chain = ops.toArray(new Op[0]);
+        assertWithinBudget("chain " + ops, budget, () -> {
+            Result<Integer> r = start;
+            for (int i = 0; i < chain.length; i++) {
+                r = chain[i].apply(r);
+            }
+            return r.isSuccess() ? r.orElse(SEED) : r;
+        });
+    }
+}
@@ -0,0 +1,203 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultCache;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+
+    private static Function<String, Result<Integer>> blockingLoader(CountDownLatch loading, CountDownLatch release) {
+        return key -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Success.of(key.length());
+        };
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(Thread.State.WAITING, thread.getState());
+    }
+
+    private static int deadInClock(ResultCache<?, ?> cache) throws ReflectiveOperationException {
+        Field field = ResultCache.class.getDeclaredField("deadInClock");
+        field.setAccessible(true);
+        return ((AtomicInteger) field.get(cache)).get();
+    }
+
+    @Property(tries = 1)
+    void testCachesSuccesses() {
+        AtomicInteger loads = new AtomicInteger();
+        ResultCache<String, Integer> cache = Result.memoize(key -> {
+            loads.incrementAndGet();
+            return Success.of(key.length());
+        }, 100);
+        assertEquals(Success.of(5), cache.get("hello"));
+        assertEquals(Success.of(5), cache.get("hello"));
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().getHitCount());
+        assertEquals(1, cache.stats().getMissCount());
+    }
+
+    @Property(tries = 1)
+    void testFailuresUseTheirOwnTtl() {
+        AtomicInteger loads = new AtomicInteger();
+        AtomicLong now = new AtomicLong();
+        ResultCache<String, Integer> cache = ResultCache.builder()
+                .failureTtl(Duration.ofMillis(50))
+                .ticker(now::get)
+                .build(key -> {
+                    loads.incrementAndGet();
+                    return Result.failure(new IllegalStateException("not found"));
+                });
+        assertTrue(cache.get("missing").isFailure());
+        assertTrue(cache.get("missing").isFailure());
+        assertEquals(1, loads.get());
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(49));
+        assertTrue(cache.get("missing").isFailure());
+        assertEquals(1, loads.get());
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertTrue(cache.get("missing").isFailure());
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.stats().getLoadFailureCount());
+    }
+
+    @Property(tries = 1)
+    void testFailuresNotCachedByDefault() {
+        AtomicInteger loads = new AtomicInteger();
+        ResultCache<String, Integer> cache = ResultCache.builder().build(key -> {
+            loads.incrementAndGet();
+            return Result.failure(new IllegalStateException("down"));
+        });
+        cache.get("a");
+        cache.get("a");
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Property(tries = 1)
+    void testConcurrentLoadsAreCoalesced() throws InterruptedException {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResultCache<String, Integer> cache = ResultCache.builder().build(key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Success.of(1000);
+        });
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger successes = new AtomicInteger();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                if (cache.get("key").isSuccess()) {
+                    successes.incrementAndGet();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Thread.sleep(20);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(8, successes.get());
+    }
+
+    @Property(tries = 1)
+    void testSizeIsBounded() {
+        ResultCache<Integer, Integer> cache = Result.memoize(Success::of, 16);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(i);
+            cache.get(i % 4);
+        }
+        assertTrue(cache.size() <= 16);
+        assertTrue(cache.stats().getEvictionCount() > 0);
+        long missesBefore = cache.stats().getMissCount();
+        cache.get(0);
+        assertEquals(missesBefore, cache.stats().getMissCount());
+    }
+
+    @Property(tries = 1)
+    void testWaitersOnInFlightLoadAreMisses() throws InterruptedException {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResultCache<String, Integer> cache = ResultCache.builder().build(blockingLoader(loading, release));
+        Thread loader = new Thread(() -> cache.get("key"));
+        loader.start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Thread waiter = new Thread(() -> cache.get("key"));
+        waiter.start();
+        awaitWaiting(waiter);
+        release.countDown();
+        loader.join();
+        waiter.join();
+        assertEquals(0, cache.stats().getHitCount());
+        assertEquals(2, cache.stats().getMissCount());
+        assertEquals(Success.of(3), cache.get("key"));
+        assertEquals(1, cache.stats().getHitCount());
+    }
+
+    @Property(tries = 1)
+    void testInvalidateDuringLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ResultCache<String, Integer> cache = ResultCache.builder()
+                .maximumSize(1)
+                .build(blockingLoader(loading, release));
+        Thread loader = new Thread(() -> cache.get("a"));
+        loader.start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        cache.invalidate("a");
+        release.countDown();
+        loader.join();
+        assertEquals(0, cache.size());
+
+        cache.get("bb");
+        cache.get("ccc");
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.stats().getEvictionCount());
+        assertEquals(0, deadInClock(cache));
+    }
+
+    @Property(tries = 1)
+    void testRecursiveLoadOfSameKeyFails() {
+        AtomicInteger loads = new AtomicInteger();
+        ResultCache<String, Integer>[] self = new ResultCache[1];
+        self[0] = ResultCache.builder().build(key -> {
+            loads.incrementAndGet();
+            return self[0].get(key);
+        });
+        Result<Integer> result = self[0].get("loop");
+        assertInstanceOf(IllegalStateException.class, ((Failure<Integer>) result).getException());
+        assertEquals(1, loads.get());
+    }
+}
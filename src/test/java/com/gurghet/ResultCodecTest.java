@@ -0,0 +1,161 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.RemoteFailureException;
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultCodec;
+import com.gurghet.result.Success;
+import com.gurghet.result.ValueCodec;
+import net.jqwik.api.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCodecTest {
+
+    private static final ResultCodec<String> CODEC = ResultCodec.builder().maxStackDepth(4).build(ValueCodec.utf8());
+
+    @Provide
+    Arbitrary<Result<String>> resultArbitrary() {
+        return Arbitraries.oneOf(
+                Arbitraries.strings().map(Success::of),
+                Arbitraries.strings().injectNull(0.2).map(m -> Failure.of(new IllegalStateException(m)))
+        );
+    }
+
+    private static void assertSameOutcome(Result<String> expected, Result<String> actual) {
+        if (expected.isSuccess()) {
+            assertEquals(expected, actual);
+            return;
+        }
+        RuntimeException original = ((Failure<String>) expected).getException();
+        RemoteFailureException decoded = (RemoteFailureException) ((Failure<String>) actual).getException();
+        assertEquals(original.getClass().getName(), decoded.getRemoteClassName());
+        assertEquals(original.getMessage(), decoded.getMessage());
+        assertEquals(original.toString(), decoded.toString());
+    }
+
+    @Property
+    void testHeapRoundTrip(@ForAll("resultArbitrary") Result<String> result) {
+        ByteBuffer buffer = ByteBuffer.wrap(CODEC.encode(result));
+        assertSameOutcome(result, CODEC.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Property
+    void testDirectBufferRoundTrip(@ForAll("resultArbitrary") Result<String> result) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        CODEC.encode(result, buffer);
+        buffer.flip();
+        assertSameOutcome(result, CODEC.decode(buffer));
+    }
+
+    @Property(tries = 20)
+    void testBatchThroughMemoryMappedFile(@ForAll List<@From("resultArbitrary") Result<String>> results) throws IOException {
+        Path file = Files.createTempFile("results", ".bin");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, 1 << 20);
+            CODEC.encodeAll(results, mapped);
+            mapped.flip();
+            List<Result<String>> decoded = CODEC.decodeAll(mapped);
+            assertEquals(results.size(), decoded.size());
+            for (int i = 0; i < results.size(); i++) {
+                assertSameOutcome(results.get(i), decoded.get(i));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Property(tries = 1)
+    void testStreamFramesCanBeReadBackInOrder() throws IOException {
+        ResultCodec<Integer> codec = ResultCodec.of(ValueCodec.int32());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.encode(Success.of(1), out);
+        codec.encodeAll(List.of(Success.of(2), Failure.of(new UncheckedIOException(new IOException("disk")))), out);
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        assertEquals(Success.of(1), codec.decode(in));
+        List<Result<Integer>> batch = codec.decodeAll(in);
+        assertEquals(Success.of(2), batch.get(0));
+        assertEquals(UncheckedIOException.class.getName(),
+                ((RemoteFailureException) ((Failure<Integer>) batch.get(1)).getException()).getRemoteClassName());
+        assertEquals(0, in.available());
+    }
+
+    @Property(tries = 1)
+    void testStackIsTruncatedAndNotRecaptured() {
+        RuntimeException original = new IllegalArgumentException("bad input");
+        Result<String> decoded = CODEC.decode(ByteBuffer.wrap(CODEC.encode(Failure.of(original))));
+        StackTraceElement[] stack = ((Failure<String>) decoded).getException().getStackTrace();
+        assertEquals(4, stack.length);
+        assertEquals(original.getStackTrace()[0].getClassName(), stack[0].getClassName());
+        assertEquals(original.getStackTrace()[0].getMethodName(), stack[0].getMethodName());
+        assertEquals(original.getStackTrace()[0].getLineNumber(), stack[0].getLineNumber());
+
+        ResultCodec<String> stackless = ResultCodec.of(ValueCodec.utf8());
+        Result<String> bare = stackless.decode(ByteBuffer.wrap(stackless.encode(Failure.of(original))));
+        assertEquals(0, ((Failure<String>) bare).getException().getStackTrace().length);
+    }
+
+    @Property(tries = 1)
+    void testVoidSuccessRoundTrip() {
+        ResultCodec<Void> codec = ResultCodec.of(new VoidCodec());
+        Result<Void> decoded = codec.decode(ByteBuffer.wrap(codec.encode(Result.of(() -> {
+        }))));
+        assertTrue(decoded.isSuccess());
+        assertNull(decoded.unsafeGet());
+    }
+
+    @Property(tries = 1)
+    void testOverflowLeavesBufferUntouched() {
+        ByteBuffer small = ByteBuffer.allocate(8);
+        small.put((byte) 9);
+        assertThrows(BufferOverflowException.class, () -> CODEC.encode(Success.of("longer than seven bytes"), small));
+        assertEquals(1, small.position());
+    }
+
+    @Property(tries = 1)
+    void testCorruptInputIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CODEC.decode(ByteBuffer.wrap(new byte[]{7})));
+        assertThrows(IllegalArgumentException.class,
+                () -> CODEC.decode(ByteBuffer.wrap(new byte[]{0, 0x7f, 0, 0, 0})));
+    }
+
+    @Property(tries = 1)
+    void testBytesCodecRoundTrip() {
+        ResultCodec<byte[]> codec = ResultCodec.of(ValueCodec.bytes());
+        byte[] payload = {1, 2, 3};
+        assertArrayEquals(payload, codec.decode(ByteBuffer.wrap(codec.encode(Success.of(payload)))).unsafeGet());
+        List<Result<Long>> longs = List.of(Success.of(Long.MAX_VALUE), Success.of(-1L));
+        ResultCodec<Long> longCodec = ResultCodec.of(ValueCodec.int64());
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        longCodec.encodeAll(longs, buffer);
+        buffer.flip();
+        assertEquals(longs, longCodec.decodeAll(buffer));
+    }
+
+    private static final class VoidCodec implements ValueCodec<Void> {
+        @Override
+        public void encode(Void value, ByteBuffer out) {
+            throw new AssertionError("void successes carry no value");
+        }
+
+        @Override
+        public Void decode(ByteBuffer in) {
+            throw new AssertionError("void successes carry no value");
+        }
+    }
+}
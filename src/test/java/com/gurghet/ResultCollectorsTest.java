@@ -0,0 +1,68 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultCollectors;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCollectorsTest {
+
+    private static Result<Integer> classify(int i) {
+        if (i % 7 == 0) {
+            return Failure.of(new IllegalArgumentException("seven " + i));
+        } else if (i % 11 == 0) {
+            return Failure.of(new IllegalStateException("eleven " + i));
+        } else {
+            return Success.of(i);
+        }
+    }
+
+    private static List<Result<Integer>> results(int size) {
+        return IntStream.range(1, size).mapToObj(ResultCollectorsTest::classify).collect(Collectors.toList());
+    }
+
+    @Property
+    void testParallelPartitionMatchesSequential(@ForAll("sizes") int size) {
+        List<Result<Integer>> results = results(size);
+        ResultCollectors.Partition<Integer> sequential = results.stream().collect(ResultCollectors.partition());
+        ResultCollectors.Partition<Integer> parallel = results.parallelStream().collect(ResultCollectors.partition());
+        assertEquals(sequential.getSuccesses(), parallel.getSuccesses());
+        assertEquals(sequential.getFailures(), parallel.getFailures());
+        assertEquals(results.stream().filter(Result::isSuccess).count(), parallel.getSuccesses().size());
+    }
+
+    @Provide
+    Arbitrary<Integer> sizes() {
+        return Arbitraries.integers().between(1, 20_000);
+    }
+
+    @Property(tries = 1)
+    void testSuccessesOnly() {
+        List<Integer> successes = results(100).parallelStream().collect(ResultCollectors.successesOnly());
+        assertEquals(IntStream.range(1, 100).filter(i -> i % 7 != 0 && i % 11 != 0).boxed().collect(Collectors.toList()), successes);
+    }
+
+    @Property(tries = 1)
+    void testFailureHistogram() {
+        Map<Class<? extends RuntimeException>, Long> histogram = results(100).parallelStream().collect(ResultCollectors.failureHistogram());
+        assertEquals(14L, histogram.get(IllegalArgumentException.class));
+        assertEquals(8L, histogram.get(IllegalStateException.class));
+    }
+
+    @Property(tries = 1)
+    void testFirstFailureOrAll() {
+        Result<List<Integer>> failed = results(10_000).parallelStream().collect(ResultCollectors.firstFailureOrAll());
+        assertEquals("seven 7", ((Failure<?>) failed).getException().getMessage());
+        Result<List<Integer>> all = IntStream.range(0, 1000).mapToObj(Success::of).parallel().collect(ResultCollectors.firstFailureOrAll());
+        assertEquals(1000, all.unsafeGet().size());
+        assertEquals(999, all.unsafeGet().get(999));
+    }
+}
@@ -0,0 +1,98 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultCodec;
+import com.gurghet.result.Success;
+import com.gurghet.result.ValueCodec;
+import net.jqwik.api.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultContextTest {
+
+    @Property
+    void testSuccessPaysNothing(@ForAll Integer value) {
+        Result<Integer> success = Success.of(value);
+        AtomicInteger rendered = new AtomicInteger();
+        assertSame(success, success.context("while loading user 42"));
+        assertSame(success, success.context(() -> "user " + rendered.incrementAndGet()));
+        assertEquals(0, rendered.get());
+    }
+
+    @Property(tries = 1)
+    void testFramesAreOrderedOutermostLastAndExceptionIsUntouched() {
+        NoSuchElementException error = new NoSuchElementException("row 42");
+        Result<Integer> result = Result.<Integer>failure(error)
+                .context("while reading users table")
+                .map(x -> x + 1)
+                .context("while loading user 42");
+
+        Failure<Integer> failure = (Failure<Integer>) result;
+        assertSame(error, failure.getException());
+        assertEquals(0, error.getSuppressed().length);
+        assertNull(error.getCause());
+        assertEquals(List.of("while reading users table", "while loading user 42"), failure.getContext());
+        assertTrue(result.toString().contains("context=[while reading users table, while loading user 42]"));
+        assertEquals(Success.of(0), result.catchSome(NoSuchElementException.class, e -> Success.of(0)));
+    }
+
+    @Property(tries = 1)
+    void testSupplierContextIsRenderedLazilyAndOnce() {
+        AtomicInteger rendered = new AtomicInteger();
+        Result<Integer> result = Result.<Integer>failure(new IllegalStateException())
+                .context(() -> "attempt " + rendered.incrementAndGet());
+        assertEquals(0, rendered.get());
+        assertEquals(List.of("attempt 1"), ((Failure<Integer>) result).getContext());
+        assertEquals(List.of("attempt 1"), ((Failure<Integer>) result).getContext());
+        assertEquals(1, rendered.get());
+    }
+
+    @Property(tries = 1)
+    void testThrowingSupplierRendersPlaceholder() {
+        Result<Integer> result = Result.<Integer>failure(new IllegalStateException())
+                .context(() -> {
+                    throw new IllegalArgumentException("no user");
+                });
+        String frame = ((Failure<Integer>) result).getContext().get(0);
+        assertTrue(frame.contains("context unavailable") && frame.contains("no user"), frame);
+    }
+
+    @Property(tries = 1)
+    void testMapErrorKeepsContext() {
+        Result<Integer> result = Result.<Integer>failure(new IllegalStateException("low level"))
+                .context("while parsing")
+                .mapError(e -> new IllegalArgumentException("translated", e));
+        Failure<Integer> failure = (Failure<Integer>) result;
+        assertEquals(IllegalArgumentException.class, failure.getException().getClass());
+        assertEquals(List.of("while parsing"), failure.getContext());
+    }
+
+    @Property(tries = 1)
+    void testAsyncAndLazyForwardContext() {
+        Result<Integer> async = Result.<Integer>ofAsync(() -> {
+            throw new IllegalStateException();
+        }).context("async step").join();
+        assertEquals(List.of("async step"), ((Failure<Integer>) async).getContext());
+
+        Result<Integer> lazy = Result.<Integer>defer(() -> {
+            throw new IllegalStateException();
+        }).context(() -> "lazy step").get();
+        assertEquals(List.of("lazy step"), ((Failure<Integer>) lazy).getContext());
+    }
+
+    @Property(tries = 1)
+    void testContextSurvivesCodecRoundTrip() {
+        ResultCodec<String> codec = ResultCodec.of(ValueCodec.utf8());
+        Result<String> original = Result.<String>failure(new IllegalStateException("boom"))
+                .context("while loading user 42")
+                .context(() -> "while rendering profile");
+        Result<String> decoded = codec.decode(ByteBuffer.wrap(codec.encode(original)));
+        assertEquals(((Failure<String>) original).getContext(), ((Failure<String>) decoded).getContext());
+    }
+}
@@ -0,0 +1,96 @@
+package com.gurghet;
+
+import com.gurghet.result.Result;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.jqwik.api.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultEventsTest {
+
+    private static final String FAILURE_CREATED = "com.gurghet.result.FailureCreated";
+    private static final String RECOVERED = "com.gurghet.result.Recovered";
+    private static final String THUNK = "com.gurghet.result.Thunk";
+
+    private static List<RecordedEvent> record(Runnable body) throws IOException {
+        Path file = Files.createTempFile("result-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(FAILURE_CREATED);
+            recording.enable(RECOVERED);
+            recording.enable(THUNK);
+            recording.start();
+            body.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().startsWith("com.gurghet.result."))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    @Property(tries = 1)
+    void testFailureCreationAndRecoveryAreRecorded() throws IOException {
+        List<RecordedEvent> events = record(() -> Result.<Integer>of(() -> {
+                    throw new IllegalStateException("boom");
+                })
+                .catchSome(IllegalStateException.class, () -> Result.success(0)));
+
+        List<RecordedEvent> failures = named(events, FAILURE_CREATED);
+        assertEquals(1, failures.size());
+        assertEquals(IllegalStateException.class.getName(), failures.get(0).getClass("exceptionClass").getName());
+        assertEquals("boom", failures.get(0).getString("message"));
+        assertTrue(failures.get(0).getString("callSite").contains("ResultEventsTest"));
+
+        List<RecordedEvent> recoveries = named(events, RECOVERED);
+        assertEquals(1, recoveries.size());
+        assertEquals("catchSome", recoveries.get(0).getString("operation"));
+    }
+
+    @Property(tries = 1)
+    void testThunkDurationCarriesCallSiteLabel() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Result.of("load-user", () -> 42);
+            Result.ofSneakyThrows(() -> {
+                throw new IOException("disk");
+            });
+        });
+
+        List<RecordedEvent> thunks = named(events, THUNK);
+        assertEquals(2, thunks.size());
+        RecordedEvent labelled = thunks.stream()
+                .filter(e -> "load-user".equals(e.getString("callSite"))).findFirst().orElseThrow();
+        assertTrue(labelled.getBoolean("success"));
+        assertFalse(labelled.getDuration().isNegative());
+        RecordedEvent sneaky = thunks.stream()
+                .filter(e -> "Result.ofSneakyThrows".equals(e.getString("callSite"))).findFirst().orElseThrow();
+        assertFalse(sneaky.getBoolean("success"));
+        assertEquals(RuntimeException.class.getName(), sneaky.getClass("exceptionClass").getName());
+    }
+
+    @Property(tries = 1)
+    void testMapErrorTranslationIsRecordedButIdentityIsNot() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            Result<Integer> failure = Result.failure(new IllegalStateException());
+            failure.mapError(e -> e);
+            failure.mapError(IllegalArgumentException::new);
+        });
+
+        List<RecordedEvent> recoveries = named(events, RECOVERED);
+        assertEquals(1, recoveries.size());
+        assertEquals("mapError", recoveries.get(0).getString("operation"));
+    }
+}
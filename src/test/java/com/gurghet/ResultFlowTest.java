@@ -0,0 +1,247 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultFlow;
+import net.jqwik.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultFlowTest {
+
+    private static final class Collecting<T> implements Flow.Subscriber<T> {
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CountDownLatch terminated = new CountDownLatch(1);
+        final long initialRequest;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+
+        Collecting(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            terminated.countDown();
+        }
+
+        void await() throws InterruptedException {
+            assertTrue(terminated.await(10, TimeUnit.SECONDS), "stream did not terminate");
+        }
+    }
+
+    private static final class ManualPublisher<T> implements Flow.Publisher<T> {
+        final List<Long> requests = new CopyOnWriteArrayList<>();
+        volatile Flow.Subscriber<? super T> subscriber;
+        volatile boolean cancelled;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requests.add(n);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        long totalRequested() {
+            return requests.stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private static Result<Integer> parseEven(String s) {
+        int value = Integer.parseInt(s);
+        return value % 2 == 0 ? Result.success(value) : Result.failure(new IllegalArgumentException("odd " + s));
+    }
+
+    @Property(tries = 1)
+    void testSuccessesFlowDownstreamAndFailuresToDeadLetter() throws InterruptedException {
+        List<String> deadLetters = new CopyOnWriteArrayList<>();
+        ResultFlow<String, Integer> flow = ResultFlow.map(ResultFlowTest::parseEven,
+                (item, failure) -> deadLetters.add(item), 8);
+        Collecting<Integer> subscriber = new Collecting<>(Long.MAX_VALUE);
+        flow.subscribe(subscriber);
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(flow);
+            for (int i = 0; i < 1_000; i++) {
+                publisher.submit(Integer.toString(i));
+            }
+            publisher.submit("not a number");
+        }
+        subscriber.await();
+        assertNull(subscriber.error);
+        assertEquals(IntStream.range(0, 1_000).filter(i -> i % 2 == 0).boxed().collect(Collectors.toList()),
+                subscriber.items);
+        assertEquals(501, deadLetters.size());
+        assertEquals("not a number", deadLetters.get(500));
+    }
+
+    @Property(tries = 1)
+    void testBackpressureBatchesUpstreamRequests() {
+        ManualPublisher<String> upstream = new ManualPublisher<>();
+        ResultFlow<String, Integer> flow = ResultFlow.map(ResultFlowTest::parseEven, (item, failure) -> {
+        }, 16);
+        Collecting<Integer> subscriber = new Collecting<>(0);
+        flow.subscribe(subscriber);
+        upstream.subscribe(flow);
+        assertEquals(List.of(16L), upstream.requests);
+
+        for (int i = 0; i < 16; i++) {
+            upstream.subscriber.onNext(Integer.toString(i * 2));
+        }
+        assertTrue(subscriber.items.isEmpty());
+        assertEquals(16L, upstream.totalRequested());
+
+        subscriber.subscription.request(5);
+        assertEquals(List.of(0, 2, 4, 6, 8), subscriber.items);
+        assertEquals(16L, upstream.totalRequested());
+
+        subscriber.subscription.request(7);
+        assertEquals(12, subscriber.items.size());
+        assertEquals(List.of(16L, 12L), upstream.requests);
+    }
+
+    @Property(tries = 1)
+    void testFailuresDoNotConsumeDownstreamDemand() {
+        ManualPublisher<String> upstream = new ManualPublisher<>();
+        List<Failure<Integer>> deadLetters = new ArrayList<>();
+        ResultFlow<String, Integer> flow = ResultFlow.map(ResultFlowTest::parseEven,
+                (item, failure) -> deadLetters.add(failure), 4);
+        Collecting<Integer> subscriber = new Collecting<>(1);
+        flow.subscribe(subscriber);
+        upstream.subscribe(flow);
+        upstream.subscriber.onNext("1");
+        upstream.subscriber.onNext("3");
+        upstream.subscriber.onNext("4");
+        assertEquals(List.of(4), subscriber.items);
+        assertEquals(2, deadLetters.size());
+        assertEquals(IllegalArgumentException.class, deadLetters.get(0).getException().getClass());
+    }
+
+    @Property(tries = 1)
+    void testAsyncMappingIsBoundedAndOrdered() throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ConcurrentLinkedQueue<Integer> deadLetters = new ConcurrentLinkedQueue<>();
+        ResultFlow<Integer, Integer> flow = ResultFlow.mapAsync(i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return Result.ofAsync(() -> {
+                Thread.sleep(i % 3);
+                inFlight.decrementAndGet();
+                if (i % 10 == 0) {
+                    throw new IllegalStateException("item " + i);
+                }
+                return i * 10;
+            });
+        }, 4, (item, failure) -> deadLetters.add(item));
+        Collecting<Integer> subscriber = new Collecting<>(Long.MAX_VALUE);
+        flow.subscribe(subscriber);
+        try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(flow);
+            for (int i = 1; i <= 200; i++) {
+                publisher.submit(i);
+            }
+        }
+        subscriber.await();
+        assertTrue(maxInFlight.get() <= 4, "max in flight " + maxInFlight.get());
+        assertEquals(IntStream.rangeClosed(1, 200).filter(i -> i % 10 != 0).map(i -> i * 10).boxed()
+                .collect(Collectors.toList()), subscriber.items);
+        assertEquals(20, deadLetters.size());
+    }
+
+    @Property(tries = 1)
+    void testMapperExceptionAndNullBecomeDeadLetters() {
+        ManualPublisher<String> upstream = new ManualPublisher<>();
+        List<Class<?>> failures = new ArrayList<>();
+        ResultFlow<String, Integer> flow = ResultFlow.map(s -> s.isEmpty() ? null : Result.success(Integer.parseInt(s)),
+                (item, failure) -> failures.add(failure.getException().getClass()));
+        Collecting<Integer> subscriber = new Collecting<>(Long.MAX_VALUE);
+        flow.subscribe(subscriber);
+        upstream.subscribe(flow);
+        upstream.subscriber.onNext("x");
+        upstream.subscriber.onNext("");
+        upstream.subscriber.onNext("7");
+        upstream.subscriber.onComplete();
+        assertEquals(List.of(NumberFormatException.class, NullPointerException.class), failures);
+        assertEquals(List.of(7), subscriber.items);
+        assertEquals(0, subscriber.terminated.getCount());
+    }
+
+    @Property(tries = 1)
+    void testCancellationAndUpstreamErrorPropagate() {
+        ManualPublisher<String> upstream = new ManualPublisher<>();
+        ResultFlow<String, Integer> flow = ResultFlow.map(ResultFlowTest::parseEven, (item, failure) -> {
+        });
+        Collecting<Integer> subscriber = new Collecting<>(Long.MAX_VALUE);
+        flow.subscribe(subscriber);
+        upstream.subscribe(flow);
+        subscriber.subscription.cancel();
+        assertTrue(upstream.cancelled);
+
+        ManualPublisher<String> failing = new ManualPublisher<>();
+        ResultFlow<String, Integer> second = ResultFlow.map(ResultFlowTest::parseEven, (item, failure) -> {
+        });
+        Collecting<Integer> errors = new Collecting<>(Long.MAX_VALUE);
+        second.subscribe(errors);
+        failing.subscribe(second);
+        IllegalStateException boom = new IllegalStateException("upstream broke");
+        failing.subscriber.onError(boom);
+        assertSame(boom, errors.error);
+
+        Collecting<Integer> late = new Collecting<>(1);
+        second.subscribe(late);
+        assertEquals(IllegalStateException.class, late.error.getClass());
+    }
+
+    @Property(tries = 1)
+    void testDeadLetterSinkFailureTerminatesStream() {
+        ManualPublisher<String> upstream = new ManualPublisher<>();
+        ResultFlow<String, Integer> flow = ResultFlow.map(ResultFlowTest::parseEven, (item, failure) -> {
+            throw new IllegalStateException("sink down");
+        });
+        Collecting<Integer> subscriber = new Collecting<>(Long.MAX_VALUE);
+        flow.subscribe(subscriber);
+        upstream.subscribe(flow);
+        upstream.subscriber.onNext("1");
+        assertEquals("sink down", subscriber.error.getMessage());
+        assertTrue(upstream.cancelled);
+    }
+}
@@ -0,0 +1,128 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.GuardRejectedException;
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultGuard;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultGuardTest {
+
+    private static ResultGuard breaker(Duration openDuration) {
+        return ResultGuard.builder()
+                .slidingWindowSize(10)
+                .minimumCalls(4)
+                .failureRateThreshold(50)
+                .openDuration(openDuration)
+                .halfOpenCalls(2)
+                .build();
+    }
+
+    private static void awaitState(ResultGuard guard, ResultGuard.CircuitState expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (guard.getState() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, guard.getState());
+    }
+
+    private static Result<Integer> fail(ResultGuard guard) {
+        return guard.call(() -> { throw new IllegalStateException("down"); });
+    }
+
+    @Property(tries = 1)
+    void testOpensAfterFailureRateExceeded() {
+        ResultGuard guard = breaker(Duration.ofMinutes(1));
+        guard.call(() -> 1);
+        guard.call(() -> 1);
+        fail(guard);
+        assertEquals(ResultGuard.CircuitState.CLOSED, guard.getState());
+        fail(guard);
+        assertEquals(ResultGuard.CircuitState.OPEN, guard.getState());
+
+        Result<Integer> rejected = guard.call(() -> 1);
+        Result<String> rejectedAgain = guard.call(() -> "x");
+        assertSame(GuardRejectedException.CIRCUIT_OPEN, ((Failure<?>) rejected).getException());
+        assertSame(rejected, rejectedAgain);
+    }
+
+    @Property(tries = 1)
+    void testHalfOpenClosesAfterSuccessfulTrials() throws InterruptedException {
+        ResultGuard guard = breaker(Duration.ofMillis(20));
+        for (int i = 0; i < 4; i++) {
+            fail(guard);
+        }
+        assertEquals(ResultGuard.CircuitState.OPEN, guard.getState());
+        awaitState(guard, ResultGuard.CircuitState.HALF_OPEN);
+        assertEquals(Success.of(1), guard.call(() -> 1));
+        assertEquals(ResultGuard.CircuitState.HALF_OPEN, guard.getState());
+        assertEquals(Success.of(1), guard.call(() -> 1));
+        assertEquals(ResultGuard.CircuitState.CLOSED, guard.getState());
+    }
+
+    @Property(tries = 1)
+    void testHalfOpenFailureReopens() throws InterruptedException {
+        ResultGuard guard = breaker(Duration.ofMillis(20));
+        for (int i = 0; i < 4; i++) {
+            fail(guard);
+        }
+        awaitState(guard, ResultGuard.CircuitState.HALF_OPEN);
+        fail(guard);
+        assertEquals(ResultGuard.CircuitState.OPEN, guard.getState());
+    }
+
+    @Property(tries = 1)
+    void testHalfOpenErrorCountsAsFailure() throws InterruptedException {
+        ResultGuard guard = breaker(Duration.ofMillis(20));
+        for (int i = 0; i < 4; i++) {
+            fail(guard);
+        }
+        awaitState(guard, ResultGuard.CircuitState.HALF_OPEN);
+        Error error = new Error("fatal");
+        assertSame(error, assertThrows(Error.class, () -> guard.callResult(() -> { throw error; })));
+        assertEquals(ResultGuard.CircuitState.OPEN, guard.getState());
+        assertEquals(0, guard.getInFlight());
+
+        awaitState(guard, ResultGuard.CircuitState.HALF_OPEN);
+        assertEquals(Success.of(1), guard.call(() -> 1));
+        assertEquals(Success.of(1), guard.call(() -> 1));
+        assertEquals(ResultGuard.CircuitState.CLOSED, guard.getState());
+    }
+
+    @Property(tries = 1)
+    void testBulkheadRejectsWhenFull() throws InterruptedException {
+        ResultGuard guard = ResultGuard.builder().maxConcurrentCalls(1).build();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> guard.call(() -> {
+            entered.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        holder.start();
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+        Result<Integer> rejected = guard.call(() -> 1);
+        assertSame(GuardRejectedException.BULKHEAD_FULL, ((Failure<?>) rejected).getException());
+        release.countDown();
+        holder.join();
+        assertEquals(0, guard.getInFlight());
+        assertEquals(Success.of(1), guard.call(() -> 1));
+    }
+
+    @Property(tries = 1)
+    void testRejectionSentinelIsImmutable() {
+        ResultGuard guard = breaker(Duration.ofMinutes(1));
+        for (int i = 0; i < 4; i++) {
+            fail(guard);
+        }
+        guard.call(() -> 1).tap(x -> {}).mapError(e -> e);
+        assertEquals(0, GuardRejectedException.CIRCUIT_OPEN.getSuppressed().length);
+        assertEquals(0, GuardRejectedException.CIRCUIT_OPEN.getStackTrace().length);
+    }
+}
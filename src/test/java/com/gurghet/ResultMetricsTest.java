@@ -0,0 +1,73 @@
+package com.gurghet;
+
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultMetrics;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultMetricsTest {
+
+    @Property(tries = 1)
+    void testCountsFailuresAndRecoveriesByType() {
+        ResultMetrics metrics = new ResultMetrics();
+        metrics.onFailureCreated(new IllegalStateException());
+        metrics.onFailureCreated(new IllegalStateException());
+        metrics.onFailureCreated(new IllegalArgumentException());
+        metrics.onRecovered(new IllegalStateException());
+
+        assertEquals(2L, metrics.failureCounts().get(IllegalStateException.class));
+        assertEquals(1L, metrics.failureCounts().get(IllegalArgumentException.class));
+        assertEquals(1L, metrics.recoveryCounts().get(IllegalStateException.class));
+        assertNull(metrics.recoveryCounts().get(IllegalArgumentException.class));
+    }
+
+    @Property(tries = 1)
+    void testCallSiteRatesAndLatencyPercentiles() {
+        ResultMetrics metrics = new ResultMetrics();
+        for (int i = 0; i < 99; i++) {
+            metrics.onThunkCompleted("load-user", 1_000, null);
+        }
+        metrics.onThunkCompleted("load-user", 1_000_000, new IllegalStateException());
+
+        ResultMetrics.CallSite site = metrics.callSite("load-user");
+        assertEquals(99, site.getSuccessCount());
+        assertEquals(1, site.getFailureCount());
+        long p50 = site.latencyPercentileNanos(50);
+        assertTrue(p50 >= 1_000 && p50 < 2_048, "p50 was " + p50);
+        long p100 = site.latencyPercentileNanos(100);
+        assertTrue(p100 >= 1_000_000 && p100 < 2_097_152, "p100 was " + p100);
+        assertNull(metrics.callSite("unknown"));
+    }
+
+    @Property(tries = 1)
+    void testResetClearsEverything() {
+        ResultMetrics metrics = new ResultMetrics();
+        metrics.onFailureCreated(new IllegalStateException());
+        metrics.onThunkCompleted("site", 10, null);
+        metrics.reset();
+        assertTrue(metrics.failureCounts().isEmpty());
+        assertTrue(metrics.callSites().isEmpty());
+    }
+
+    @Property(tries = 1)
+    void testRejectsOutOfRangePercentile() {
+        ResultMetrics metrics = new ResultMetrics();
+        metrics.onThunkCompleted("site", 10, null);
+        assertThrows(IllegalArgumentException.class, () -> metrics.callSite("site").latencyPercentileNanos(101));
+    }
+
+    @Property(tries = 1)
+    void testLabelledFactoriesBehaveLikeUnlabelled() {
+        AtomicInteger calls = new AtomicInteger();
+        assertEquals(Success.of(1), Result.of("counter", calls::incrementAndGet));
+        assertEquals(Success.of(2), Result.ofSneakyThrows("counter", calls::incrementAndGet));
+        assertTrue(Result.of("boom", () -> {
+            throw new IllegalStateException();
+        }).isFailure());
+        assertFalse(ResultMetrics.isEnabled());
+    }
+}
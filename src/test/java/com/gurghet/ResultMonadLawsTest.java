@@ -2,11 +2,14 @@ package com.gurghet;
 
 import com.gurghet.result.Failure;
 import com.gurghet.result.Result;
+import com.gurghet.result.StackTracePolicy;
+import com.gurghet.result.StacklessException;
 import com.gurghet.result.Success;
 import net.jqwik.api.*;
 import org.junit.jupiter.api.Test;
 
 import java.time.DateTimeException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
@@ -50,6 +53,24 @@ class ResultMonadLawsTest {
         assertEquals(RuntimeException.class, ((Failure<?>) mapped).getException().getClass());
     }
 
+    @Property(tries = 1)
+    void testFailurePropagationKeepsInstance() {
+        Result<Integer> failure = Failure.of(new RuntimeException("error"));
+        assertSame(failure, failure.map(Object::toString));
+        assertSame(failure, failure.flatMap(i -> Success.of(i.toString())));
+        assertSame(failure, failure.mapError(e -> e));
+    }
+
+    @Property(tries = 1)
+    void testMapperExceptionBecomesFailure() {
+        RuntimeException thrown = new IllegalStateException("mapper");
+        Result<Integer> result = Success.of(42);
+        assertSame(thrown, ((Failure<?>) result.map(i -> { throw thrown; })).getException());
+        assertSame(thrown, ((Failure<?>) result.flatMap(i -> { throw thrown; })).getException());
+        Result<Integer> failure = Failure.of(new RuntimeException("error"));
+        assertSame(thrown, ((Failure<?>) failure.mapError(e -> { throw thrown; })).getException());
+    }
+
     @Property
     void leftIdentitySuccess(@ForAll Integer value, @ForAll("mapper") Function<Integer, Result<Integer>> mapper) {
         Result<Integer> m = Success.of(value);
@@ -195,7 +216,43 @@ class ResultMonadLawsTest {
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> result.orElseGet(throwingSupplier));
         assertEquals("Original error", exception.getMessage());
-        assertEquals("Supplier error", exception.getSuppressed()[0].getMessage());
+        assertEquals(0, exception.getSuppressed().length);
+    }
+
+    @Property(tries = 1)
+    void testTapDoesNotMutateSharedFailure() {
+        RuntimeException original = new RuntimeException("cached");
+        Result<Integer> cached = Failure.of(original);
+        for (int i = 0; i < 1_000; i++) {
+            assertSame(cached, cached.tap(x -> fail("consumer must not run on a failure")));
+            cached.orElseGet(() -> 0);
+        }
+        assertEquals(0, original.getSuppressed().length);
+    }
+
+    @Property(tries = 1)
+    void testTapFailureIsAnnotatedWithoutSuppressedException() {
+        RuntimeException thrown = new IllegalStateException("consumer");
+        Result<Integer> tapped = Success.of(42).tap(x -> {
+            throw thrown;
+        });
+        Failure<Integer> failure = (Failure<Integer>) tapped;
+        assertSame(thrown, failure.getException());
+        assertEquals(0, thrown.getSuppressed().length);
+        assertEquals(java.util.List.of("Error in tap"), failure.getContext());
+    }
+
+    @Property(tries = 1)
+    void testFailureContextIsBounded() {
+        Failure<Integer> failure = Failure.of(new RuntimeException("error"));
+        for (int i = 0; i < 100; i++) {
+            failure = failure.withContext("step " + i);
+        }
+        assertEquals(16, failure.getContext().size());
+        assertEquals("step 84", failure.getContext().get(0));
+        assertEquals("step 99", failure.getContext().get(15));
+        assertEquals(84, failure.getDroppedContext());
+        assertTrue(failure.toString().contains("droppedContext=84"));
     }
 
     @Property
@@ -261,6 +318,21 @@ class ResultMonadLawsTest {
         assertEquals(value, result.unsafeGet());
     }
 
+    @Property(tries = 1)
+    void testCanonicalSuccesses() {
+        assertSame(Result.of(() -> {}), Result.of(() -> {}));
+        assertSame(Result.success(true), Success.of(true));
+        assertSame(Result.success(7), Result.success(7));
+        assertNotSame(Result.success(1000), Result.success(1000));
+    }
+
+    @Property
+    void testSuccessHashCodeConsistentWithEquals(@ForAll Integer value) {
+        assertEquals(Success.of(value), Result.success(value));
+        assertEquals(Success.of(value).hashCode(), Result.success(value).hashCode());
+        assertEquals(Objects.hash(value, false), Success.of(value).hashCode());
+    }
+
     @Property
     void testFailure(@ForAll String errorMessage) {
         RuntimeException exception = new RuntimeException(errorMessage);
@@ -279,6 +351,36 @@ class ResultMonadLawsTest {
         }
     }
 
+    @Property(tries = 1)
+    void testFromOptionalStackless() {
+        Result<Integer> result = Result.fromOptional(Optional.empty(), StackTracePolicy.STACKLESS);
+        RuntimeException exception = ((Failure<?>) result).getException();
+        assertSame(StacklessException.OPTIONAL_NOT_PRESENT, exception);
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Property(tries = 1)
+    void testFromOptionalRejectsNullPolicy() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> Result.fromOptional(Optional.of(1), null));
+        assertEquals("Stack trace policy cannot be null", exception.getMessage());
+    }
+
+    @Property(tries = 1)
+    void testOfSneakyThrowsStackless() {
+        Exception checked = new Exception("checked");
+        Result<Integer> result = Result.ofSneakyThrows(() -> { throw checked; }, StackTracePolicy.STACKLESS);
+        RuntimeException exception = ((Failure<?>) result).getException();
+        assertSame(checked, exception.getCause());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Property(tries = 1)
+    void testOfSneakyThrowsFull() {
+        Result<Integer> result = Result.ofSneakyThrows(() -> { throw new Exception("checked"); }, StackTracePolicy.FULL);
+        assertTrue(((Failure<?>) result).getException().getStackTrace().length > 0);
+    }
+
     @Property
     void testCatchAll(@ForAll("resultArbitrary") Result<Integer> result, @ForAll Integer fallbackValue) {
         AtomicBoolean handlerCalled = new AtomicBoolean(false);
@@ -386,4 +488,15 @@ class ResultMonadLawsTest {
         Result<Void> result = Result.of(() -> System.out.println("Hello"));
         assertTrue(result.isSuccess());
     }
-}
\ No newline at end of file
+
+    @Property
+    void testRecordStyleAccessors(@ForAll("resultArbitrary") Result<Integer> result) {
+        if (result instanceof Success) {
+            Success<Integer> success = (Success<Integer>) result;
+            assertEquals(success.getValue(), success.value());
+        } else {
+            Failure<Integer> failure = (Failure<Integer>) result;
+            assertSame(failure.getException(), failure.exception());
+        }
+    }
+}
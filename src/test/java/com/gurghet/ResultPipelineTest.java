@@ -0,0 +1,107 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.ResultPipeline;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultPipelineTest {
+
+    private static final RuntimeException ERROR = new IllegalStateException("error");
+
+    private static final Function<Integer, Result<Integer>> HALVE =
+            i -> i % 2 == 0 ? Success.of(i / 2) : Failure.of(ERROR);
+
+    @Property
+    void testMatchesEagerChain(@ForAll int value) {
+        Function<Integer, Result<String>> compiled = ResultPipeline.<Integer>start()
+                .map(i -> i + 1)
+                .flatMap(HALVE)
+                .mapError(e -> new IllegalArgumentException(e.getMessage()))
+                .catchSome(IllegalArgumentException.class, e -> Success.of(-1))
+                .map(Object::toString)
+                .compile();
+
+        Result<String> eager = Result.of(() -> value)
+                .map(i -> i + 1)
+                .flatMap(HALVE)
+                .mapError(e -> new IllegalArgumentException(e.getMessage()))
+                .catchSome(IllegalArgumentException.class, e -> Success.of(-1))
+                .map(Object::toString);
+
+        assertEquals(eager, compiled.apply(value));
+    }
+
+    @Property(tries = 1)
+    void testMapperExceptionBecomesFailure() {
+        Result<Integer> result = ResultPipeline.<Integer>start()
+                .map(i -> i / 0)
+                .apply(1);
+        assertTrue(result.isFailure());
+        assertEquals(ArithmeticException.class, ((Failure<?>) result).getException().getClass());
+    }
+
+    @Property(tries = 1)
+    void testFailureSkipsSuccessStages() {
+        AtomicInteger taps = new AtomicInteger();
+        AtomicInteger errorTaps = new AtomicInteger();
+        Result<Integer> result = ResultPipeline.<Integer>start()
+                .flatMap(HALVE)
+                .tap(i -> taps.incrementAndGet())
+                .map(i -> i * 100)
+                .tapError(e -> errorTaps.incrementAndGet())
+                .apply(3);
+        assertSame(ERROR, ((Failure<?>) result).getException());
+        assertEquals(0, taps.get());
+        assertEquals(1, errorTaps.get());
+    }
+
+    @Property(tries = 1)
+    void testLastFlatMapResultIsReused() {
+        Result<Integer> shared = Success.of(1000);
+        Result<Integer> result = ResultPipeline.<Integer>start()
+                .flatMap(i -> shared)
+                .apply(1);
+        assertSame(shared, result);
+    }
+
+    @Property(tries = 1)
+    void testNullInputIsFailure() {
+        Result<Integer> result = ResultPipeline.<Integer>start().map(i -> i + 1).apply(null);
+        assertTrue(result.isFailure());
+    }
+
+    @Property(tries = 1)
+    void testMapErrorKeepsContext() {
+        Result<Integer> result = ResultPipeline.<Integer>start()
+                .flatMap(i -> Result.<Integer>failure(ERROR).context("while halving " + i))
+                .mapError(e -> new IllegalArgumentException("translated", e))
+                .apply(3);
+        Failure<?> failure = (Failure<?>) result;
+        assertEquals(IllegalArgumentException.class, failure.getException().getClass());
+        assertEquals(List.of("while halving 3"), failure.getContext());
+    }
+
+    @Property(tries = 1)
+    void testContextStageMatchesEagerChain() {
+        ResultPipeline<Integer, Integer> pipeline = ResultPipeline.<Integer>start()
+                .flatMap(HALVE)
+                .context("while halving")
+                .map(i -> i + 1)
+                .context(() -> "while loading");
+        Failure<?> failure = (Failure<?>) pipeline.apply(3);
+        assertSame(ERROR, failure.getException());
+        assertEquals(List.of("while halving", "while loading"), failure.getContext());
+        Result<Integer> eager = Result.of(() -> 3).flatMap(HALVE).context("while halving")
+                .map(i -> i + 1).context(() -> "while loading");
+        assertEquals(((Failure<?>) eager).getContext(), failure.getContext());
+        assertEquals(Success.of(3), pipeline.apply(4));
+    }
+}
@@ -0,0 +1,127 @@
+package com.gurghet;
+
+import com.gurghet.result.AsyncResult;
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.RetryException;
+import com.gurghet.result.RetryPolicy;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryTest {
+
+    private static RetryPolicy.Builder fastPolicy() {
+        return RetryPolicy.builder().initialDelay(Duration.ofMillis(1)).maxDelay(Duration.ofMillis(5));
+    }
+
+    @Property(tries = 1)
+    void testSucceedsAfterTransientFailures() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<Integer> result = Result.retry(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IOException("transient");
+            }
+            return 42;
+        }, fastPolicy().maxAttempts(5).build());
+        assertEquals(Success.of(42), result);
+        assertEquals(3, calls.get());
+    }
+
+    @Property(tries = 1)
+    void testGivesUpWithBoundedHistory() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<Integer> result = Result.retry(() -> {
+            throw new IllegalStateException("attempt " + calls.incrementAndGet());
+        }, fastPolicy().maxAttempts(6).historyLimit(3).decorrelatedJitter().build());
+        RetryException exception = (RetryException) ((Failure<?>) result).getException();
+        assertEquals(6, exception.getAttempts());
+        assertEquals(3, exception.getHistory().size());
+        assertEquals("attempt 6", exception.getLastException().getMessage());
+        assertEquals(0, exception.getSuppressed().length);
+        assertEquals(0, exception.getLastException().getSuppressed().length);
+    }
+
+    @Property(tries = 1)
+    void testDoesNotRetryUnmatchedExceptions() {
+        AtomicInteger calls = new AtomicInteger();
+        IllegalArgumentException thrown = new IllegalArgumentException("permanent");
+        Result<Integer> result = Result.retry(() -> {
+            calls.incrementAndGet();
+            throw thrown;
+        }, fastPolicy().retryOn(IOException.class).build());
+        assertSame(thrown, ((Failure<?>) result).getException());
+        assertEquals(1, calls.get());
+    }
+
+    @Property(tries = 1)
+    void testPermanentFailureAfterRetriesIsNotWrapped() {
+        AtomicInteger calls = new AtomicInteger();
+        IllegalArgumentException permanent = new IllegalArgumentException("permanent");
+        Result<Integer> result = Result.retry(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IOException("transient");
+            }
+            throw permanent;
+        }, fastPolicy().maxAttempts(5).retryOn(IOException.class).build());
+        Failure<?> failure = (Failure<?>) result;
+        assertSame(permanent, failure.getException());
+        assertEquals(2, calls.get());
+        assertEquals(1, failure.getContext().size());
+        assertTrue(failure.getContext().get(0).startsWith("retry attempt 1 failed: "), failure.getContext().toString());
+        assertEquals(Success.of(0), result.catchSome(IllegalArgumentException.class, e -> Success.of(0)));
+    }
+
+    @Property(tries = 1)
+    void testRetryOnMatchesWrappedCheckedExceptions() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<Integer> result = Result.retry(() -> {
+            calls.incrementAndGet();
+            throw new IOException("io");
+        }, fastPolicy().maxAttempts(4).retryOn(IOException.class).build());
+        assertTrue(result.isFailure());
+        assertEquals(4, calls.get());
+    }
+
+    @Property(tries = 1)
+    void testAsyncRetry() {
+        AtomicInteger calls = new AtomicInteger();
+        AsyncResult<Integer> async = Result.retryAsync(() -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IllegalStateException("transient");
+            }
+            return 7;
+        }, fastPolicy().maxAttempts(3).build());
+        assertEquals(Success.of(7), async.join());
+    }
+
+    @Property(tries = 1)
+    void testAsyncRetryUsesSchedulerOnlyForDelays() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "retry-scheduler"));
+        Set<String> attemptThreads = ConcurrentHashMap.newKeySet();
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            AsyncResult<Integer> async = Result.retryAsync(() -> {
+                attemptThreads.add(Thread.currentThread().getName());
+                if (calls.incrementAndGet() < 3) {
+                    throw new IllegalStateException("transient");
+                }
+                return 7;
+            }, fastPolicy().maxAttempts(3).build(), scheduler);
+            assertEquals(Success.of(7), async.join());
+        } finally {
+            scheduler.shutdownNow();
+        }
+        assertEquals(3, calls.get());
+        assertFalse(attemptThreads.contains("retry-scheduler"), attemptThreads.toString());
+    }
+}
@@ -0,0 +1,78 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.FailureOrder;
+import com.gurghet.result.Result;
+import com.gurghet.result.Success;
+import net.jqwik.api.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraverseTest {
+
+    private static final Function<Integer, Result<Integer>> REJECT_NEGATIVE =
+            i -> i < 0 ? Failure.of(new IllegalArgumentException("negative " + i)) : Success.of(i * 2);
+
+    @Property
+    void testParallelMatchesSequential(@ForAll List<Integer> inputs) {
+        Result<List<Integer>> sequential = Result.traverse(inputs, REJECT_NEGATIVE);
+        Result<List<Integer>> parallel = Result.parallelTraverse(inputs, REJECT_NEGATIVE);
+        assertEquals(sequential.isSuccess(), parallel.isSuccess());
+        if (sequential.isSuccess()) {
+            assertEquals(sequential.unsafeGet(), parallel.unsafeGet());
+        } else {
+            assertEquals(
+                    ((Failure<?>) sequential).getException().getMessage(),
+                    ((Failure<?>) parallel).getException().getMessage());
+        }
+    }
+
+    @Property(tries = 1)
+    void testSequence() {
+        List<Result<Integer>> results = Arrays.asList(Success.of(1), Success.of(2), Success.of(3));
+        assertEquals(Success.of(Arrays.asList(1, 2, 3)), Result.sequence(results));
+        RuntimeException error = new RuntimeException("error");
+        List<Result<Integer>> withFailure = Arrays.asList(Success.of(1), Failure.of(error), Success.of(3));
+        assertSame(error, ((Failure<?>) Result.sequence(withFailure)).getException());
+    }
+
+    @Property(tries = 1)
+    void testEncounterOrderReturnsFirstFailingElement() {
+        List<Integer> inputs = IntStream.range(0, 100_000)
+                .map(i -> i == 40_000 || i == 90_000 ? -i : i)
+                .boxed()
+                .collect(Collectors.toList());
+        Result<List<Integer>> result = Result.parallelTraverse(inputs, REJECT_NEGATIVE, FailureOrder.ENCOUNTER);
+        assertEquals("negative -40000", ((Failure<?>) result).getException().getMessage());
+    }
+
+    @Property(tries = 1)
+    void testFailureCancelsUnstartedWork() {
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> inputs = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        Result<List<Integer>> result = Result.parallelTraverse(inputs, i -> {
+            calls.incrementAndGet();
+            return Failure.of(new IllegalStateException("always"));
+        }, FailureOrder.EARLIEST);
+        assertTrue(result.isFailure());
+        assertTrue(calls.get() < inputs.size());
+    }
+
+    @Property(tries = 1)
+    void testSequentialStopsAtFirstFailure() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<List<Integer>> result = Result.traverse(Arrays.asList(1, -2, 3), i -> {
+            calls.incrementAndGet();
+            return REJECT_NEGATIVE.apply(i);
+        });
+        assertTrue(result.isFailure());
+        assertEquals(2, calls.get());
+    }
+}
@@ -0,0 +1,130 @@
+package com.gurghet;
+
+import com.gurghet.result.Failure;
+import com.gurghet.result.Result;
+import com.gurghet.result.Success;
+import com.gurghet.result.TypedResult;
+import net.jqwik.api.*;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypedResultTest {
+
+    enum LookupError { NOT_FOUND, FORBIDDEN }
+
+    @Provide
+    Arbitrary<TypedResult<Integer, LookupError>> typedArbitrary() {
+        return Arbitraries.oneOf(
+                Arbitraries.integers().map(TypedResult::success),
+                Arbitraries.of(LookupError.class).map(TypedResult::failure)
+        );
+    }
+
+    @Property
+    void testLeftIdentity(@ForAll Integer value) {
+        Function<Integer, TypedResult<Integer, LookupError>> f = x -> x % 2 == 0
+                ? TypedResult.success(x / 2)
+                : TypedResult.failure(LookupError.NOT_FOUND);
+        assertEquals(f.apply(value), TypedResult.<Integer, LookupError>success(value).flatMap(f));
+    }
+
+    @Property
+    void testRightIdentity(@ForAll("typedArbitrary") TypedResult<Integer, LookupError> result) {
+        assertEquals(result, result.flatMap(TypedResult::success));
+    }
+
+    @Property
+    void testFailurePropagatesSameInstance(@ForAll LookupError error) {
+        TypedResult<Integer, LookupError> failure = TypedResult.failure(error);
+        assertSame(failure, failure.map(x -> x + 1));
+        assertSame(failure, failure.flatMap(x -> TypedResult.success(x + 1)));
+        assertSame(failure, failure.mapError(e -> e));
+        assertEquals(error, failure.getError());
+    }
+
+    @Property(tries = 1)
+    void testEnumErrorsAreValuesNotThrowables() {
+        TypedResult<String, LookupError> missing = TypedResult.failure(LookupError.NOT_FOUND);
+        assertEquals(TypedResult.failure(LookupError.NOT_FOUND), missing);
+        assertEquals("fallback", missing.orElse("fallback"));
+        assertEquals("NOT_FOUND", missing.orElseGet(Enum::name));
+        assertEquals(Optional.empty(), missing.toOptional());
+        assertEquals(9, (int) missing.fold(String::length, e -> 9));
+        assertThrows(IllegalStateException.class, missing::unsafeGet);
+        assertThrows(IllegalStateException.class, () -> TypedResult.success(1).getError());
+    }
+
+    @Property(tries = 1)
+    void testOfKeepsCheckedExceptionUnwrapped() {
+        FileNotFoundException thrown = new FileNotFoundException("missing.txt");
+        TypedResult<String, IOException> result = TypedResult.of(() -> {
+            throw thrown;
+        }, IOException.class);
+        assertSame(thrown, result.getError());
+
+        TypedResult<String, FileNotFoundException> recovered = TypedResult.<String, FileNotFoundException>of(() -> {
+            throw thrown;
+        }, FileNotFoundException.class).catchSome(FileNotFoundException.class, e -> TypedResult.success("default"));
+        assertEquals(TypedResult.success("default"), recovered);
+    }
+
+    @Property(tries = 1)
+    void testOfRethrowsErrorsOutsideTheChannel() {
+        assertThrows(IllegalStateException.class, () -> TypedResult.of(() -> {
+            throw new IllegalStateException("defect");
+        }, IOException.class));
+        RuntimeException wrapped = assertThrows(RuntimeException.class, () -> TypedResult.of(() -> {
+            throw new InterruptedException();
+        }, IOException.class));
+        assertEquals(InterruptedException.class, wrapped.getCause().getClass());
+    }
+
+    @Property(tries = 1)
+    void testOfRejectsNullValueWhateverTheErrorType() {
+        assertThrows(IllegalArgumentException.class, () -> TypedResult.of(() -> null, Exception.class));
+        assertThrows(IllegalArgumentException.class, () -> TypedResult.of(() -> null, IOException.class));
+        assertTrue(Result.ofSneakyThrows(() -> null).isFailure());
+    }
+
+    @Property(tries = 1)
+    void testCatchIfAndMapError() {
+        TypedResult<Integer, LookupError> forbidden = TypedResult.failure(LookupError.FORBIDDEN);
+        assertSame(forbidden, forbidden.catchIf(e -> e == LookupError.NOT_FOUND, e -> TypedResult.success(0)));
+        assertEquals(TypedResult.success(0), forbidden.catchIf(e -> e == LookupError.FORBIDDEN, e -> TypedResult.success(0)));
+        assertEquals(TypedResult.failure(403), forbidden.mapError(e -> 403));
+        assertEquals(TypedResult.success(1), forbidden.catchAll(() -> TypedResult.success(1)));
+    }
+
+    @Property(tries = 1)
+    void testTapRunsOnMatchingSideOnly() {
+        AtomicBoolean tapped = new AtomicBoolean();
+        AtomicBoolean tappedError = new AtomicBoolean();
+        TypedResult.<Integer, LookupError>failure(LookupError.NOT_FOUND)
+                .tap(x -> tapped.set(true))
+                .tapError(e -> tappedError.set(true));
+        assertFalse(tapped.get());
+        assertTrue(tappedError.get());
+    }
+
+    @Property
+    void testRoundTripThroughResult(@ForAll("typedArbitrary") TypedResult<Integer, LookupError> typed) {
+        Result<Integer> result = typed.toResult(e -> new IllegalStateException(e.name()));
+        assertEquals(typed.isSuccess(), result.isSuccess());
+        TypedResult<Integer, LookupError> back = TypedResult.fromResult(result,
+                e -> LookupError.valueOf(e.getMessage()));
+        assertEquals(typed, back);
+    }
+
+    @Property(tries = 1)
+    void testFromResultKeepsException() {
+        RuntimeException error = new IllegalArgumentException("bad");
+        assertSame(error, TypedResult.fromResult(Failure.<Integer>of(error)).getError());
+        assertEquals(TypedResult.success(1), TypedResult.fromResult(Success.of(1)));
+    }
+}